@@ -22,14 +22,48 @@
 
 package org.mintjams.tools.adapter;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.TimeZone;
 
+import org.mintjams.tools.lang.Strings;
+
 public abstract class AbstractValueAdapter<ValueType> implements ValueAdapter<ValueType> {
 
+	private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<MethodHandle>() {
+		@Override
+		protected MethodHandle computeValue(Class<?> type) {
+			try {
+				return MethodHandles.publicLookup().findConstructor(type, MethodType.methodType(void.class, Map.class));
+			} catch (NoSuchMethodException | IllegalAccessException ex) {
+				return null;
+			}
+		}
+	};
+
+	private static final ClassValue<Class<?>> VALUE_TYPES = new ClassValue<Class<?>>() {
+		@Override
+		protected Class<?> computeValue(Class<?> type) {
+			for (Class<?> c = type; c != null && c != AbstractValueAdapter.class; c = c.getSuperclass()) {
+				Type superType = c.getGenericSuperclass();
+				if (superType instanceof ParameterizedType) {
+					Type valueType = ((ParameterizedType) superType).getActualTypeArguments()[0];
+					if (valueType instanceof Class) {
+						return (Class<?>) valueType;
+					}
+				}
+			}
+			return null;
+		}
+	};
+
 	protected final Map<String, Object> fEnv;
 
 	protected AbstractValueAdapter() {
@@ -52,6 +86,66 @@ public abstract class AbstractValueAdapter<ValueType> implements ValueAdapter<Va
 		return ValueAdapters.getDisplayZoneId(fEnv);
 	}
 
+	protected ValueAdapterRegistry getValueAdapterRegistry() {
+		return getValueAdapterRegistry(fEnv);
+	}
+
+	private static ValueAdapterRegistry getValueAdapterRegistry(Map<String, Object> env) {
+		if (env instanceof AdaptationContext) {
+			return ((AdaptationContext) env).getValueAdapterRegistry();
+		}
+
+		Object registry = env.get(ENV_VALUEADAPTERS);
+		if (registry instanceof ValueAdapterRegistry) {
+			return (ValueAdapterRegistry) registry;
+		}
+		return ValueAdapterRegistry.getDefault();
+	}
+
+	@SuppressWarnings("unchecked")
+	protected ValueConverter<Object, ValueType> getConverter(Object value) {
+		Class<?> valueType = VALUE_TYPES.get(getClass());
+		if (valueType == null) {
+			return null;
+		}
+
+		return (ValueConverter<Object, ValueType>) getValueAdapterRegistry().getConverter(value.getClass(), valueType);
+	}
+
+	protected ValueType requireAdapted(Object value, ValueType adaptedValue) {
+		if (adaptedValue != null || value == null) {
+			return adaptedValue;
+		}
+		if (value instanceof String && Strings.isBlank((String) value)) {
+			return adaptedValue;
+		}
+
+		throw newUnadaptableValueException();
+	}
+
+	protected UnadaptableValueException newUnadaptableValueException() {
+		Class<?> valueType = VALUE_TYPES.get(getClass());
+		return new UnadaptableValueException("Value cannot adapt to type \""
+				+ ((valueType == null) ? "?" : valueType.getTypeName())
+				+ "\"");
+	}
+
+	@SuppressWarnings("unchecked")
+	protected ValueAdapter<ValueType> newInstance(Map<String, Object> env) {
+		MethodHandle constructor = CONSTRUCTORS.get(getClass());
+		if (constructor == null) {
+			throw new IllegalStateException(getClass().getName() + " must have a public constructor that takes a java.util.Map.");
+		}
+
+		try {
+			return (ValueAdapter<ValueType>) constructor.invoke(env);
+		} catch (RuntimeException | Error ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw (IllegalStateException) new IllegalStateException(ex.getMessage()).initCause(ex);
+		}
+	}
+
 	@Override
 	public AdaptableValue<ValueType> getAdaptableValue(Object value) {
 		return new AdaptableValueImpl(value);
@@ -59,6 +153,7 @@ public abstract class AbstractValueAdapter<ValueType> implements ValueAdapter<Va
 
 	private class AdaptableValueImpl implements AdaptableValue<ValueType> {
 		private final Object fValue;
+		private Map<String, Object> fLocalEnv;
 
 		private AdaptableValueImpl(Object value) {
 			fValue = value;
@@ -66,7 +161,16 @@ public abstract class AbstractValueAdapter<ValueType> implements ValueAdapter<Va
 
 		@Override
 		public AdaptableValue<ValueType> setProperty(String key, Object value) {
-			fEnv.put(key, value);
+			Map<String, Object> env = (fLocalEnv == null) ? fEnv : fLocalEnv;
+			if (env instanceof AdaptationContext && (!ENV_VALUEADAPTERS.equals(key) || value instanceof ValueAdapterRegistry)) {
+				fLocalEnv = ((AdaptationContext) env).with(key, value);
+				return this;
+			}
+
+			if (fLocalEnv == null || fLocalEnv instanceof AdaptationContext) {
+				fLocalEnv = new HashMap<>(env);
+			}
+			fLocalEnv.put(key, value);
 			return this;
 		}
 
@@ -83,16 +187,12 @@ public abstract class AbstractValueAdapter<ValueType> implements ValueAdapter<Va
 		@Override
 		public AdaptableValue<ValueType> setEncoding(Charset encoding) {
 			setProperty(ENV_ENCODING, encoding);
-			return null;
+			return this;
 		}
 
 		@Override
 		public AdaptableValue<ValueType> setZoneId(String zoneId) {
-			if (!ZoneId.getAvailableZoneIds().contains(zoneId)) {
-				throw new IllegalArgumentException(zoneId);
-			}
-
-			setProperty(ENV_ZONEID, zoneId);
+			setProperty(ENV_ZONEID, ValueAdapters.parseZoneId(zoneId));
 			return this;
 		}
 
@@ -110,11 +210,7 @@ public abstract class AbstractValueAdapter<ValueType> implements ValueAdapter<Va
 
 		@Override
 		public AdaptableValue<ValueType> setDisplayZoneId(String zoneId) {
-			if (!ZoneId.getAvailableZoneIds().contains(zoneId)) {
-				throw new IllegalArgumentException(zoneId);
-			}
-
-			setProperty(ENV_DISPLAYZONEID, zoneId);
+			setProperty(ENV_DISPLAYZONEID, ValueAdapters.parseZoneId(zoneId));
 			return this;
 		}
 
@@ -132,7 +228,34 @@ public abstract class AbstractValueAdapter<ValueType> implements ValueAdapter<Va
 
 		@Override
 		public ValueType getValue() {
-			return adapt(fValue);
+			return getValueAdapter().adapt(fValue);
+		}
+
+		@Override
+		public ValueType getValueOrNull() {
+			return getValueAdapter().tryAdapt(fValue);
+		}
+
+		@SuppressWarnings("unchecked")
+		private ValueAdapter<ValueType> getValueAdapter() {
+			if (fLocalEnv == null) {
+				return AbstractValueAdapter.this;
+			}
+
+			Class<ValueType> valueType = (Class<ValueType>) VALUE_TYPES.get(AbstractValueAdapter.this.getClass());
+			if (valueType != null) {
+				ValueAdapter<ValueType> adapter = getValueAdapterRegistry(fLocalEnv).getValueAdapter(fLocalEnv, valueType);
+				if (adapter != null && adapter.getClass() == AbstractValueAdapter.this.getClass()) {
+					return adapter;
+				}
+			}
+
+			if (CONSTRUCTORS.get(AbstractValueAdapter.this.getClass()) != null || fEnv instanceof AdaptationContext) {
+				return newInstance(fLocalEnv);
+			}
+
+			fEnv.putAll(fLocalEnv);
+			return AbstractValueAdapter.this;
 		}
 	}
 
@@ -48,4 +48,12 @@ public interface AdaptableValue<ValueType> {
 
 	ValueType getValue();
 
+	default ValueType getValueOrNull() {
+		try {
+			return getValue();
+		} catch (UnadaptableValueException ignore) {
+			return null;
+		}
+	}
+
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.adapter;
+
+import java.nio.charset.Charset;
+import java.time.ZoneId;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class AdaptationContext extends AbstractMap<String, Object> {
+
+	private final ValueAdapterRegistry fRegistry;
+	private final Map<String, Object> fProperties;
+	private final int fHashCode;
+	private final Map<Class<?>, ValueAdapter<?>> fValueAdapters = new ConcurrentHashMap<>();
+	private volatile String fEncoding;
+	private volatile Charset fCharset;
+	private volatile ZoneId fZoneId;
+	private volatile ZoneId fDisplayZoneId;
+
+	AdaptationContext(ValueAdapterRegistry registry, Map<String, Object> properties) {
+		Map<String, Object> m = new HashMap<>(properties);
+		m.put(ValueAdapter.ENV_VALUEADAPTERS, registry);
+		fRegistry = registry;
+		fProperties = Collections.unmodifiableMap(m);
+		fHashCode = fProperties.hashCode();
+	}
+
+	public ValueAdapterRegistry getValueAdapterRegistry() {
+		return fRegistry;
+	}
+
+	public String getEncoding() {
+		String encoding = fEncoding;
+		if (encoding == null) {
+			encoding = fEncoding = resolveEncoding(fProperties.get(ValueAdapter.ENV_ENCODING));
+		}
+		return encoding;
+	}
+
+	public Charset getCharset() {
+		Charset charset = fCharset;
+		if (charset == null) {
+			Object o = fProperties.get(ValueAdapter.ENV_ENCODING);
+			charset = fCharset = (o instanceof Charset) ? (Charset) o : Charset.forName(getEncoding());
+		}
+		return charset;
+	}
+
+	public ZoneId getZoneId() {
+		ZoneId zoneId = fZoneId;
+		if (zoneId == null) {
+			Object o = fProperties.get(ValueAdapter.ENV_ZONEID);
+			if (o == null) {
+				return ZoneId.systemDefault();
+			}
+			zoneId = fZoneId = resolveZoneId(o);
+		}
+		return zoneId;
+	}
+
+	public ZoneId getDisplayZoneId() {
+		ZoneId zoneId = fDisplayZoneId;
+		if (zoneId == null) {
+			Object o = fProperties.get(ValueAdapter.ENV_DISPLAYZONEID);
+			if (o == null) {
+				return ZoneId.systemDefault();
+			}
+			zoneId = fDisplayZoneId = resolveZoneId(o);
+		}
+		return zoneId;
+	}
+
+	public AdaptationContext with(String key, Object value) {
+		if (ValueAdapter.ENV_VALUEADAPTERS.equals(key)) {
+			if (!(value instanceof ValueAdapterRegistry)) {
+				throw new IllegalArgumentException(key);
+			}
+			return ((ValueAdapterRegistry) value).createEnvironment(this);
+		}
+
+		Map<String, Object> properties = new HashMap<>(fProperties);
+		properties.remove(ValueAdapter.ENV_VALUEADAPTERS);
+		properties.put(key, value);
+		return new AdaptationContext(fRegistry, properties);
+	}
+
+	public AdaptationContext with(Map<String, Object> properties) {
+		if (properties == null || properties.isEmpty()) {
+			return this;
+		}
+
+		Object registry = properties.get(ValueAdapter.ENV_VALUEADAPTERS);
+		if (registry != null && !(registry instanceof ValueAdapterRegistry)) {
+			throw new IllegalArgumentException(ValueAdapter.ENV_VALUEADAPTERS);
+		}
+
+		Map<String, Object> m = new HashMap<>(fProperties);
+		m.putAll(properties);
+		m.remove(ValueAdapter.ENV_VALUEADAPTERS);
+		if (registry == null) {
+			return new AdaptationContext(fRegistry, m);
+		}
+		return ((ValueAdapterRegistry) registry).createEnvironment(m);
+	}
+
+	@SuppressWarnings("unchecked")
+	<ValueType> ValueAdapter<ValueType> getValueAdapter(Class<ValueType> valueType) {
+		if (!fRegistry.isShared(valueType)) {
+			return fRegistry.createValueAdapter(this, valueType);
+		}
+
+		ValueAdapter<?> adapter = fValueAdapters.get(valueType);
+		if (adapter == null) {
+			adapter = fRegistry.createValueAdapter(this, valueType);
+			if (adapter == null) {
+				return null;
+			}
+			ValueAdapter<?> cached = fValueAdapters.putIfAbsent(valueType, adapter);
+			if (cached != null) {
+				adapter = cached;
+			}
+		}
+		return (ValueAdapter<ValueType>) adapter;
+	}
+
+	private static String resolveEncoding(Object o) {
+		if (o instanceof Charset) {
+			return ((Charset) o).name();
+		}
+		if (o instanceof String) {
+			return (String) o;
+		}
+		return Charset.defaultCharset().name();
+	}
+
+	private static ZoneId resolveZoneId(Object o) {
+		if (o instanceof ZoneId) {
+			return (ZoneId) o;
+		}
+		if (o instanceof String) {
+			return ZoneId.of((String) o);
+		}
+		return ZoneId.systemDefault();
+	}
+
+	@Override
+	public Object get(Object key) {
+		return fProperties.get(key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return fProperties.containsKey(key);
+	}
+
+	@Override
+	public int size() {
+		return fProperties.size();
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		return fProperties.entrySet();
+	}
+
+	@Override
+	public int hashCode() {
+		return fHashCode;
+	}
+
+}
@@ -27,19 +27,19 @@ public class UnadaptableValueException extends RuntimeException {
 	private static final long serialVersionUID = 1L;
 
 	public UnadaptableValueException() {
-		super();
+		super(null, null, true, false);
 	}
 
 	public UnadaptableValueException(String message) {
-		super(message);
+		super(message, null, true, false);
 	}
 
 	public UnadaptableValueException(String message, Throwable cause) {
-		super(message, cause);
+		super(message, cause, true, false);
 	}
 
 	public UnadaptableValueException(Throwable cause) {
-		super(cause);
+		super((cause == null) ? null : cause.toString(), cause, true, false);
 	}
 
 }
@@ -31,6 +31,14 @@ public interface ValueAdapter<ValueType> {
 
 	ValueType adapt(Object value);
 
+	default ValueType tryAdapt(Object value) {
+		try {
+			return adapt(value);
+		} catch (UnadaptableValueException ignore) {
+			return null;
+		}
+	}
+
 	AdaptableValue<ValueType> getAdaptableValue(Object value);
 
 }
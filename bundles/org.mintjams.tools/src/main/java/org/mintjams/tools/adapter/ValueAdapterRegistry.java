@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.adapter;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.mintjams.tools.internal.adapter.DefaultValueConverters;
+import org.mintjams.tools.internal.io.InputStreamValueAdapter;
+import org.mintjams.tools.internal.io.ReaderValueAdapter;
+import org.mintjams.tools.internal.lang.BigDecimalValueAdapter;
+import org.mintjams.tools.internal.lang.BigIntegerValueAdapter;
+import org.mintjams.tools.internal.lang.BooleanValueAdapter;
+import org.mintjams.tools.internal.lang.ByteValueAdapter;
+import org.mintjams.tools.internal.lang.CharacterValueAdapter;
+import org.mintjams.tools.internal.lang.DoubleValueAdapter;
+import org.mintjams.tools.internal.lang.FloatValueAdapter;
+import org.mintjams.tools.internal.lang.IntegerValueAdapter;
+import org.mintjams.tools.internal.lang.LongValueAdapter;
+import org.mintjams.tools.internal.lang.ObjectArrayValueAdapter;
+import org.mintjams.tools.internal.lang.ShortValueAdapter;
+import org.mintjams.tools.internal.lang.StringValueAdapter;
+import org.mintjams.tools.internal.net.URIValueAdapter;
+import org.mintjams.tools.internal.net.URLValueAdapter;
+import org.mintjams.tools.internal.sql.TimeValueAdapter;
+import org.mintjams.tools.internal.sql.TimestampValueAdapter;
+import org.mintjams.tools.internal.time.LocalDateTimeValueAdapter;
+import org.mintjams.tools.internal.time.LocalDateValueAdapter;
+import org.mintjams.tools.internal.time.LocalTimeValueAdapter;
+import org.mintjams.tools.internal.time.OffsetDateTimeValueAdapter;
+import org.mintjams.tools.internal.time.OffsetTimeValueAdapter;
+import org.mintjams.tools.internal.time.ZonedDateTimeValueAdapter;
+
+public final class ValueAdapterRegistry {
+
+	private static final int MAX_CONTEXTS = 256;
+	private static final Object NO_CONVERTER = new Object();
+	private static final ValueAdapterRegistry DEFAULT = createDefault();
+
+	private final Map<Class<?>, Registration> fRegistrations;
+	private final Map<Class<?>, Class<? extends ValueAdapter<?>>> fValueAdapterTypes;
+	private final AdaptationContext fDefaultContext;
+	private final Map<Map<String, Object>, AdaptationContext> fContexts = new ConcurrentHashMap<>();
+	private final Map<Class<?>, Map<Class<?>, ValueConverter<?, ?>>> fConverters;
+	private final ClassValue<Map<Class<?>, Object>> fResolvedConverters = new ClassValue<Map<Class<?>, Object>>() {
+		@Override
+		protected Map<Class<?>, Object> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	private ValueAdapterRegistry(Builder builder) {
+		fRegistrations = Collections.unmodifiableMap(new HashMap<>(builder.fRegistrations));
+		Map<Class<?>, Class<? extends ValueAdapter<?>>> types = new HashMap<>();
+		for (Map.Entry<Class<?>, Registration> e : fRegistrations.entrySet()) {
+			if (e.getValue().fValueAdapterType != null) {
+				types.put(e.getKey(), e.getValue().fValueAdapterType);
+			}
+		}
+		fValueAdapterTypes = Collections.unmodifiableMap(types);
+		Map<Class<?>, Map<Class<?>, ValueConverter<?, ?>>> converters = new HashMap<>();
+		for (Map.Entry<Class<?>, Map<Class<?>, ValueConverter<?, ?>>> e : builder.fConverters.entrySet()) {
+			if (!e.getValue().isEmpty()) {
+				converters.put(e.getKey(), Collections.unmodifiableMap(new HashMap<>(e.getValue())));
+			}
+		}
+		fConverters = Collections.unmodifiableMap(converters);
+		fDefaultContext = new AdaptationContext(this, Collections.emptyMap());
+	}
+
+	private static ValueAdapterRegistry createDefault() {
+		return DefaultValueConverters.register(new Builder(Collections.emptyMap(), Collections.emptyMap()))
+				.register(Number.class, BigDecimalValueAdapter.class, BigDecimalValueAdapter::new)
+				.register(BigDecimal.class, BigDecimalValueAdapter.class, BigDecimalValueAdapter::new)
+				.register(BigInteger.class, BigIntegerValueAdapter.class, BigIntegerValueAdapter::new)
+				.register(Boolean.class, BooleanValueAdapter.class, BooleanValueAdapter::new)
+				.register(Byte.class, ByteValueAdapter.class, ByteValueAdapter::new)
+				.register(Character.class, CharacterValueAdapter.class, CharacterValueAdapter::new)
+				.register(java.util.Calendar.class, org.mintjams.tools.internal.util.CalendarValueAdapter.class, org.mintjams.tools.internal.util.CalendarValueAdapter::new)
+				.register(java.util.Date.class, org.mintjams.tools.internal.util.DateValueAdapter.class, org.mintjams.tools.internal.util.DateValueAdapter::new)
+				.register(Double.class, DoubleValueAdapter.class, DoubleValueAdapter::new)
+				.register(Float.class, FloatValueAdapter.class, FloatValueAdapter::new)
+				.register(InputStream.class, InputStreamValueAdapter.class, InputStreamValueAdapter::new)
+				.register(Integer.class, IntegerValueAdapter.class, IntegerValueAdapter::new)
+				.register(Long.class, LongValueAdapter.class, LongValueAdapter::new)
+				.register(Object[].class, ObjectArrayValueAdapter.class, ObjectArrayValueAdapter::new)
+				.register(Reader.class, ReaderValueAdapter.class, ReaderValueAdapter::new)
+				.register(Short.class, ShortValueAdapter.class, ShortValueAdapter::new)
+				.register(String.class, StringValueAdapter.class, StringValueAdapter::new)
+				.register(java.sql.Date.class, org.mintjams.tools.internal.sql.DateValueAdapter.class, org.mintjams.tools.internal.sql.DateValueAdapter::new)
+				.register(Timestamp.class, TimestampValueAdapter.class, TimestampValueAdapter::new)
+				.register(Time.class, TimeValueAdapter.class, TimeValueAdapter::new)
+				.register(OffsetDateTime.class, OffsetDateTimeValueAdapter.class, OffsetDateTimeValueAdapter::new)
+				.register(ZonedDateTime.class, ZonedDateTimeValueAdapter.class, ZonedDateTimeValueAdapter::new)
+				.register(LocalDateTime.class, LocalDateTimeValueAdapter.class, LocalDateTimeValueAdapter::new)
+				.register(LocalDate.class, LocalDateValueAdapter.class, LocalDateValueAdapter::new)
+				.register(OffsetTime.class, OffsetTimeValueAdapter.class, OffsetTimeValueAdapter::new)
+				.register(LocalTime.class, LocalTimeValueAdapter.class, LocalTimeValueAdapter::new)
+				.register(URI.class, URIValueAdapter.class, URIValueAdapter::new)
+				.register(URL.class, URLValueAdapter.class, URLValueAdapter::new)
+				.build();
+	}
+
+	public static ValueAdapterRegistry getDefault() {
+		return DEFAULT;
+	}
+
+	public boolean contains(Class<?> valueType) {
+		return fRegistrations.containsKey(valueType);
+	}
+
+	public Map<Class<?>, Class<? extends ValueAdapter<?>>> getValueAdapterTypes() {
+		return fValueAdapterTypes;
+	}
+
+	public AdaptationContext createEnvironment(Map<String, Object> properties) {
+		if (properties == null || properties.isEmpty()) {
+			return fDefaultContext;
+		}
+
+		if (properties instanceof AdaptationContext && ((AdaptationContext) properties).getValueAdapterRegistry() == this) {
+			return (AdaptationContext) properties;
+		}
+
+		AdaptationContext env = fContexts.get(properties);
+		if (env == null) {
+			Map<String, Object> key = new HashMap<>(properties);
+			key.remove(ValueAdapter.ENV_VALUEADAPTERS);
+			env = new AdaptationContext(this, key);
+			if (fContexts.size() < MAX_CONTEXTS) {
+				AdaptationContext cached = fContexts.putIfAbsent(key, env);
+				if (cached != null) {
+					env = cached;
+				}
+			}
+		}
+		return env;
+	}
+
+	public <ValueType> ValueAdapter<ValueType> getValueAdapter(Map<String, Object> env, Class<ValueType> valueType) {
+		if (env instanceof AdaptationContext && ((AdaptationContext) env).getValueAdapterRegistry() == this) {
+			return ((AdaptationContext) env).getValueAdapter(valueType);
+		}
+
+		return createValueAdapter(env, valueType);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <ValueType> ValueAdapter<ValueType> createValueAdapter(Map<String, Object> env, Class<ValueType> valueType) {
+		Registration registration = fRegistrations.get(valueType);
+		if (registration == null) {
+			return null;
+		}
+
+		return (ValueAdapter<ValueType>) registration.fFactory.apply(env);
+	}
+
+	boolean isShared(Class<?> valueType) {
+		Registration registration = fRegistrations.get(valueType);
+		return (registration != null && registration.fShared);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <ValueType> ValueConverter<Object, ValueType> getConverter(Class<?> sourceType, Class<ValueType> valueType) {
+		Map<Class<?>, ValueConverter<?, ?>> converters = fConverters.get(valueType);
+		if (converters == null) {
+			return null;
+		}
+
+		Map<Class<?>, Object> resolved = fResolvedConverters.get(sourceType);
+		Object converter = resolved.get(valueType);
+		if (converter == null) {
+			converter = resolveConverter(converters, sourceType);
+			if (converter == null) {
+				converter = NO_CONVERTER;
+			}
+			resolved.put(valueType, converter);
+		}
+		if (converter == NO_CONVERTER) {
+			return null;
+		}
+
+		return (ValueConverter<Object, ValueType>) converter;
+	}
+
+	private ValueConverter<?, ?> resolveConverter(Map<Class<?>, ValueConverter<?, ?>> converters, Class<?> sourceType) {
+		for (Class<?> type = sourceType; type != null; type = type.getSuperclass()) {
+			ValueConverter<?, ?> converter = converters.get(type);
+			if (converter != null) {
+				return converter;
+			}
+		}
+
+		Set<Class<?>> visited = new HashSet<>();
+		Deque<Class<?>> queue = new ArrayDeque<>();
+		for (Class<?> type = sourceType; type != null; type = type.getSuperclass()) {
+			for (Class<?> i : type.getInterfaces()) {
+				queue.add(i);
+			}
+		}
+		while (!queue.isEmpty()) {
+			Class<?> type = queue.poll();
+			if (!visited.add(type)) {
+				continue;
+			}
+
+			ValueConverter<?, ?> converter = converters.get(type);
+			if (converter != null) {
+				return converter;
+			}
+
+			for (Class<?> i : type.getInterfaces()) {
+				queue.add(i);
+			}
+		}
+
+		return null;
+	}
+
+	public Builder toBuilder() {
+		return new Builder(fRegistrations, fConverters);
+	}
+
+	public static Builder newBuilder() {
+		return DEFAULT.toBuilder();
+	}
+
+	public static class Builder {
+		private final Map<Class<?>, Registration> fRegistrations;
+		private final Map<Class<?>, Map<Class<?>, ValueConverter<?, ?>>> fConverters = new HashMap<>();
+
+		private Builder(Map<Class<?>, Registration> registrations, Map<Class<?>, Map<Class<?>, ValueConverter<?, ?>>> converters) {
+			fRegistrations = new HashMap<>(registrations);
+			for (Map.Entry<Class<?>, Map<Class<?>, ValueConverter<?, ?>>> e : converters.entrySet()) {
+				fConverters.put(e.getKey(), new HashMap<>(e.getValue()));
+			}
+		}
+
+		public <ValueType> Builder setValueAdapter(Class<ValueType> valueType, Class<? extends ValueAdapter<ValueType>> valueAdapterType) {
+			Objects.requireNonNull(valueType);
+			Objects.requireNonNull(valueAdapterType);
+
+			MethodHandle constructor;
+			try {
+				constructor = MethodHandles.publicLookup().findConstructor(valueAdapterType, MethodType.methodType(void.class, Map.class));
+			} catch (NoSuchMethodException | IllegalAccessException ex) {
+				throw (IllegalArgumentException) new IllegalArgumentException(valueAdapterType.getName() + " must have a public constructor that takes a java.util.Map.").initCause(ex);
+			}
+
+			return register(valueType, valueAdapterType, false, env -> {
+				try {
+					return valueAdapterType.cast(constructor.invoke(env));
+				} catch (RuntimeException | Error ex) {
+					throw ex;
+				} catch (Throwable ex) {
+					throw (IllegalStateException) new IllegalStateException(ex.getMessage()).initCause(ex);
+				}
+			});
+		}
+
+		public <ValueType> Builder setValueAdapterFactory(Class<ValueType> valueType, ValueAdapterFactory<ValueType> factory) {
+			Objects.requireNonNull(factory);
+			return register(valueType, null, false, factory::create);
+		}
+
+		private Builder register(Class<?> valueType, Class<? extends ValueAdapter<?>> valueAdapterType, Function<Map<String, Object>, ? extends ValueAdapter<?>> factory) {
+			return register(valueType, valueAdapterType, true, factory);
+		}
+
+		private Builder register(Class<?> valueType, Class<? extends ValueAdapter<?>> valueAdapterType, boolean shared, Function<Map<String, Object>, ? extends ValueAdapter<?>> factory) {
+			fRegistrations.put(Objects.requireNonNull(valueType), new Registration(valueAdapterType, shared, Objects.requireNonNull(factory)));
+			return this;
+		}
+
+		public Builder remove(Class<?> valueType) {
+			fRegistrations.remove(valueType);
+			return this;
+		}
+
+		public <SourceType, ValueType> Builder setConverter(Class<SourceType> sourceType, Class<ValueType> valueType, ValueConverter<? super SourceType, ? extends ValueType> converter) {
+			Objects.requireNonNull(sourceType);
+			Objects.requireNonNull(valueType);
+			Objects.requireNonNull(converter);
+			fConverters.computeIfAbsent(valueType, k -> new HashMap<>()).put(sourceType, converter);
+			return this;
+		}
+
+		public Builder removeConverter(Class<?> sourceType, Class<?> valueType) {
+			Map<Class<?>, ValueConverter<?, ?>> converters = fConverters.get(valueType);
+			if (converters != null) {
+				converters.remove(sourceType);
+			}
+			return this;
+		}
+
+		public Builder removeConverters(Class<?> valueType) {
+			fConverters.remove(valueType);
+			return this;
+		}
+
+		public ValueAdapterRegistry build() {
+			return new ValueAdapterRegistry(this);
+		}
+	}
+
+	private static class Registration {
+		private final Class<? extends ValueAdapter<?>> fValueAdapterType;
+		private final boolean fShared;
+		private final Function<Map<String, Object>, ? extends ValueAdapter<?>> fFactory;
+
+		private Registration(Class<? extends ValueAdapter<?>> valueAdapterType, boolean shared, Function<Map<String, Object>, ? extends ValueAdapter<?>> factory) {
+			fValueAdapterType = valueAdapterType;
+			fShared = shared;
+			fFactory = factory;
+		}
+	}
+
+}
@@ -22,101 +22,43 @@
 
 package org.mintjams.tools.adapter;
 
-import java.io.InputStream;
-import java.io.Reader;
-import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.net.URI;
-import java.net.URL;
 import java.nio.charset.Charset;
-import java.sql.Time;
-import java.sql.Timestamp;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.OffsetDateTime;
-import java.time.OffsetTime;
+import java.time.DateTimeException;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
-import org.mintjams.tools.internal.io.InputStreamValueAdapter;
-import org.mintjams.tools.internal.io.ReaderValueAdapter;
-import org.mintjams.tools.internal.lang.BigDecimalValueAdapter;
-import org.mintjams.tools.internal.lang.BigIntegerValueAdapter;
-import org.mintjams.tools.internal.lang.BooleanValueAdapter;
-import org.mintjams.tools.internal.lang.ByteValueAdapter;
-import org.mintjams.tools.internal.lang.CharacterValueAdapter;
-import org.mintjams.tools.internal.lang.DoubleValueAdapter;
-import org.mintjams.tools.internal.lang.FloatValueAdapter;
-import org.mintjams.tools.internal.lang.IntegerValueAdapter;
-import org.mintjams.tools.internal.lang.LongValueAdapter;
-import org.mintjams.tools.internal.lang.ObjectArrayValueAdapter;
-import org.mintjams.tools.internal.lang.ShortValueAdapter;
-import org.mintjams.tools.internal.lang.StringValueAdapter;
-import org.mintjams.tools.internal.net.URIValueAdapter;
-import org.mintjams.tools.internal.net.URLValueAdapter;
-import org.mintjams.tools.internal.sql.TimeValueAdapter;
-import org.mintjams.tools.internal.sql.TimestampValueAdapter;
-import org.mintjams.tools.internal.time.LocalDateTimeValueAdapter;
-import org.mintjams.tools.internal.time.LocalDateValueAdapter;
-import org.mintjams.tools.internal.time.LocalTimeValueAdapter;
-import org.mintjams.tools.internal.time.OffsetDateTimeValueAdapter;
-import org.mintjams.tools.internal.time.OffsetTimeValueAdapter;
-import org.mintjams.tools.internal.time.ZonedDateTimeValueAdapter;
-
 public class ValueAdapters {
 
 	private ValueAdapters() {}
 
 	public static Map<Class<?>, Class<? extends ValueAdapter<?>>> createValueAdapterMap() {
-		Map<Class<?>, Class<? extends ValueAdapter<?>>> m = new HashMap<>();
-		m.put(Number.class, BigDecimalValueAdapter.class);
-		m.put(BigDecimal.class, BigDecimalValueAdapter.class);
-		m.put(BigInteger.class, BigIntegerValueAdapter.class);
-		m.put(Boolean.class, BooleanValueAdapter.class);
-		m.put(Byte.class, ByteValueAdapter.class);
-		m.put(Character.class, CharacterValueAdapter.class);
-		m.put(java.util.Calendar.class, org.mintjams.tools.internal.util.CalendarValueAdapter.class);
-		m.put(java.util.Date.class, org.mintjams.tools.internal.util.DateValueAdapter.class);
-		m.put(Double.class, DoubleValueAdapter.class);
-		m.put(Float.class, FloatValueAdapter.class);
-		m.put(InputStream.class, InputStreamValueAdapter.class);
-		m.put(Integer.class, IntegerValueAdapter.class);
-		m.put(Long.class, LongValueAdapter.class);
-		m.put(Object[].class, ObjectArrayValueAdapter.class);
-		m.put(Reader.class, ReaderValueAdapter.class);
-		m.put(Short.class, ShortValueAdapter.class);
-		m.put(String.class, StringValueAdapter.class);
-		m.put(java.sql.Date.class, org.mintjams.tools.internal.sql.DateValueAdapter.class);
-		m.put(Timestamp.class, TimestampValueAdapter.class);
-		m.put(Time.class, TimeValueAdapter.class);
-		m.put(OffsetDateTime.class, OffsetDateTimeValueAdapter.class);
-		m.put(ZonedDateTime.class, ZonedDateTimeValueAdapter.class);
-		m.put(LocalDateTime.class, LocalDateTimeValueAdapter.class);
-		m.put(LocalDate.class, LocalDateValueAdapter.class);
-		m.put(OffsetTime.class, OffsetTimeValueAdapter.class);
-		m.put(LocalTime.class, LocalTimeValueAdapter.class);
-		m.put(URI.class, URIValueAdapter.class);
-		m.put(URL.class, URLValueAdapter.class);
-		return m;
+		return new HashMap<>(ValueAdapterRegistry.getDefault().getValueAdapterTypes());
 	}
 
 	@SuppressWarnings("unchecked")
 	public static <ValueType> ValueAdapter<ValueType> createValueAdapter(Map<String, Object> env, Class<ValueType> valueType) {
-		Map<Class<?>, Class<? extends ValueAdapter<?>>> valueAdapters = (Map<Class<?>, Class<? extends ValueAdapter<?>>>) env.get(ValueAdapter.ENV_VALUEADAPTERS);
-		if (valueAdapters == null) {
-			valueAdapters = createValueAdapterMap();
+		Object valueAdapters = env.get(ValueAdapter.ENV_VALUEADAPTERS);
+		if (valueAdapters instanceof Map) {
+			Class<?> valueAdapterType = (Class<?>) ((Map<?, ?>) valueAdapters).get(valueType);
+			try {
+				return (ValueAdapter<ValueType>) valueAdapterType.getConstructor(Map.class).newInstance(env);
+			} catch (Throwable ignore) {}
+			return null;
 		}
-		Class<? extends ValueAdapter<?>> valueAdapterType = valueAdapters.get(valueType);
+
+		ValueAdapterRegistry registry = (valueAdapters instanceof ValueAdapterRegistry) ? (ValueAdapterRegistry) valueAdapters : ValueAdapterRegistry.getDefault();
 		try {
-			return (ValueAdapter<ValueType>) valueAdapterType.getConstructor(Map.class).newInstance(env);
+			return registry.getValueAdapter(env, valueType);
 		} catch (Throwable ignore) {}
 		return null;
 	}
 
 	public static String getEncoding(Map<String, Object> env) {
+		if (env instanceof AdaptationContext) {
+			return ((AdaptationContext) env).getEncoding();
+		}
+
 		String encoding = null;
 		Object o = env.get(ValueAdapter.ENV_ENCODING);
 		if (o instanceof Charset) {
@@ -131,6 +73,10 @@ public class ValueAdapters {
 	}
 
 	public static ZoneId getZoneId(Map<String, Object> env) {
+		if (env instanceof AdaptationContext) {
+			return ((AdaptationContext) env).getZoneId();
+		}
+
 		ZoneId zoneId = null;
 		Object o = env.get(ValueAdapter.ENV_ZONEID);
 		if (o instanceof ZoneId) {
@@ -144,7 +90,23 @@ public class ValueAdapters {
 		return zoneId;
 	}
 
+	public static ZoneId parseZoneId(String zoneId) {
+		if (zoneId == null) {
+			throw new IllegalArgumentException(zoneId);
+		}
+
+		try {
+			return ZoneId.of(zoneId);
+		} catch (DateTimeException ex) {
+			throw (IllegalArgumentException) new IllegalArgumentException(zoneId).initCause(ex);
+		}
+	}
+
 	public static ZoneId getDisplayZoneId(Map<String, Object> env) {
+		if (env instanceof AdaptationContext) {
+			return ((AdaptationContext) env).getDisplayZoneId();
+		}
+
 		ZoneId zoneId = null;
 		Object o = env.get(ValueAdapter.ENV_DISPLAYZONEID);
 		if (o instanceof ZoneId) {
@@ -42,21 +42,30 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.IntStream;
 
 import org.mintjams.tools.adapter.AdaptableValue;
+import org.mintjams.tools.adapter.AdaptationContext;
 import org.mintjams.tools.adapter.ValueAdapter;
+import org.mintjams.tools.adapter.ValueAdapterRegistry;
 import org.mintjams.tools.adapter.ValueAdapters;
 
 public class AdaptableList<E> implements List<E> {
 
 	private final List<E> fList;
-	private final Map<Class<?>, Class<? extends ValueAdapter<?>>> fValueAdapterMap;
-	private final Map<String, Object> fEnv;
+	private final ValueAdapterRegistry fValueAdapters;
+	private final AdaptationContext fEnv;
+	private final int fParallelThreshold;
+	private final AdaptedValueCache fAdaptedValues;
 
 	private AdaptableList(Builder<E> builder) {
 		fList = builder.fList;
-		fValueAdapterMap = builder.fValueAdapterMap;
-		fEnv = builder.fEnv;
+		fValueAdapters = builder.getValueAdapters();
+		fEnv = fValueAdapters.createEnvironment(builder.fEnv);
+		fParallelThreshold = builder.fParallelThreshold;
+		fAdaptedValues = builder.fMemoizeAdaptedValues ? new AdaptedValueCache() : null;
 	}
 
 	@Override
@@ -96,7 +105,14 @@ public class AdaptableList<E> implements List<E> {
 
 	@Override
 	public boolean remove(Object o) {
-		return fList.remove(o);
+		if (!fList.remove(o)) {
+			return false;
+		}
+
+		if (fAdaptedValues != null) {
+			fAdaptedValues.remove(Integer.valueOf(fList.size()));
+		}
+		return true;
 	}
 
 	@Override
@@ -127,6 +143,9 @@ public class AdaptableList<E> implements List<E> {
 	@Override
 	public void clear() {
 		fList.clear();
+		if (fAdaptedValues != null) {
+			fAdaptedValues.clear();
+		}
 	}
 
 	@Override
@@ -156,7 +175,11 @@ public class AdaptableList<E> implements List<E> {
 
 	@Override
 	public E remove(int index) {
-		return fList.remove(index);
+		E element = fList.remove(index);
+		if (fAdaptedValues != null) {
+			fAdaptedValues.remove(Integer.valueOf(fList.size()));
+		}
+		return element;
 	}
 
 	@Override
@@ -189,105 +212,211 @@ public class AdaptableList<E> implements List<E> {
 	}
 
 	public <ValueType> AdaptableValue<ValueType> adapt(int index, Class<ValueType> valueType, HashMap<String, Object> env) {
-		Class<? extends ValueAdapter<?>> valueAdapterType = fValueAdapterMap.get(valueType);
-		if (valueAdapterType != null) {
-			if (env == null) {
-				env = new HashMap<>();
-			}
-			if (!env.containsKey(ValueAdapter.ENV_VALUEADAPTERS)) {
-				env.put(ValueAdapter.ENV_VALUEADAPTERS, Collections.unmodifiableMap(fValueAdapterMap));
-			}
-			for (Map.Entry<String, Object> e : fEnv.entrySet()) {
-				if (!env.containsKey(e.getKey())) {
-					env.put(e.getKey(), e.getValue());
-				}
-			}
+		if (fValueAdapters.contains(valueType)) {
 			try {
-				return (AdaptableValue<ValueType>) ValueAdapters.createValueAdapter(env, valueType).getAdaptableValue(get(index));
+				return getValueAdapter(valueType, env).getAdaptableValue(get(index));
 			} catch (Throwable ignore) {}
 		}
 
 		return null;
 	}
 
+	private <ValueType> ValueAdapter<ValueType> getValueAdapter(Class<ValueType> valueType, Map<String, Object> env) {
+		if (env == null) {
+			return fValueAdapters.getValueAdapter(fEnv, valueType);
+		}
+
+		Object valueAdapters = env.get(ValueAdapter.ENV_VALUEADAPTERS);
+		if (valueAdapters == null || valueAdapters instanceof ValueAdapterRegistry) {
+			return fValueAdapters.createValueAdapter(fEnv.with(env), valueType);
+		}
+
+		for (Map.Entry<String, Object> e : fEnv.entrySet()) {
+			if (!env.containsKey(e.getKey())) {
+				env.put(e.getKey(), e.getValue());
+			}
+		}
+		return fValueAdapters.createValueAdapter(env, valueType);
+	}
+
+	private <ValueType> ValueType getValue(int index, Class<ValueType> valueType) {
+		Object value = get(index);
+		if (fAdaptedValues == null || value == null || !AdaptedValueCache.isCacheable(value, valueType)) {
+			return fValueAdapters.getValueAdapter(fEnv, valueType).adapt(value);
+		}
+
+		Integer key = Integer.valueOf(index);
+		Object adaptedValue = fAdaptedValues.get(key, valueType, value);
+		if (adaptedValue == AdaptedValueCache.NONE) {
+			adaptedValue = fValueAdapters.getValueAdapter(fEnv, valueType).adapt(value);
+			fAdaptedValues.put(key, valueType, value, adaptedValue);
+		}
+		return valueType.cast(adaptedValue);
+	}
+
 	public BigDecimal getBigDecimal(int index) {
-		return adapt(index, BigDecimal.class).getValue();
+		return getValue(index, BigDecimal.class);
 	}
 
 	public BigInteger getBigInteger(int index) {
-		return adapt(index, BigInteger.class).getValue();
+		return getValue(index, BigInteger.class);
 	}
 
 	public Boolean getBoolean(int index) {
-		return adapt(index, Boolean.class).getValue();
+		return getValue(index, Boolean.class);
 	}
 
 	public Byte getByte(int index) {
-		return adapt(index, Byte.class).getValue();
+		return getValue(index, Byte.class);
 	}
 
 	public Character getCharacter(int index) {
-		return adapt(index, Character.class).getValue();
+		return getValue(index, Character.class);
 	}
 
 	public java.util.Date getDate(int index) {
-		return adapt(index, java.util.Date.class).getValue();
+		return getValue(index, java.util.Date.class);
 	}
 
 	public Double getDouble(int index) {
-		return adapt(index, Double.class).getValue();
+		return getValue(index, Double.class);
 	}
 
 	public Float getFloat(int index) {
-		return adapt(index, Float.class).getValue();
+		return getValue(index, Float.class);
 	}
 
 	public Object[] getObjectArray(int index) {
-		return adapt(index, Object[].class).getValue();
+		return getValue(index, Object[].class);
 	}
 
 	public InputStream getInputStream(int index) {
-		return adapt(index, InputStream.class).getValue();
+		return getValue(index, InputStream.class);
 	}
 
 	public Integer getInteger(int index) {
-		return adapt(index, Integer.class).getValue();
+		return getValue(index, Integer.class);
 	}
 
 	public Long getLong(int index) {
-		return adapt(index, Long.class).getValue();
+		return getValue(index, Long.class);
 	}
 
 	public Reader getReader(int index) {
-		return adapt(index, Reader.class).getValue();
+		return getValue(index, Reader.class);
 	}
 
 	public Short getShort(int index) {
-		return adapt(index, Short.class).getValue();
+		return getValue(index, Short.class);
 	}
 
 	public String getString(int index) {
-		return adapt(index, String.class).getValue();
+		return getValue(index, String.class);
 	}
 
 	public OffsetDateTime getOffsetDateTime(int index) {
-		return adapt(index, OffsetDateTime.class).getValue();
+		return getValue(index, OffsetDateTime.class);
 	}
 
 	public LocalDateTime getLocalDateTime(int index) {
-		return adapt(index, LocalDateTime.class).getValue();
+		return getValue(index, LocalDateTime.class);
 	}
 
 	public LocalDate getLocalDate(int index) {
-		return adapt(index, LocalDate.class).getValue();
+		return getValue(index, LocalDate.class);
 	}
 
 	public OffsetTime getOffsetTime(int index) {
-		return adapt(index, OffsetTime.class).getValue();
+		return getValue(index, OffsetTime.class);
 	}
 
 	public LocalTime getLocalTime(int index) {
-		return adapt(index, LocalTime.class).getValue();
+		return getValue(index, LocalTime.class);
+	}
+
+	public long[] toLongArray() {
+		return toLongArray(0L);
+	}
+
+	public long[] toLongArray(long nullValue) {
+		long[] values = new long[size()];
+		forEachIndex(Long.class, values.length, (adapter, i) -> {
+			Long value = adapter.adapt(get(i));
+			values[i] = (value == null) ? nullValue : value.longValue();
+		});
+		return values;
+	}
+
+	public int[] toIntArray() {
+		return toIntArray(0);
+	}
+
+	public int[] toIntArray(int nullValue) {
+		int[] values = new int[size()];
+		forEachIndex(Integer.class, values.length, (adapter, i) -> {
+			Integer value = adapter.adapt(get(i));
+			values[i] = (value == null) ? nullValue : value.intValue();
+		});
+		return values;
+	}
+
+	public double[] toDoubleArray() {
+		return toDoubleArray(0d);
+	}
+
+	public double[] toDoubleArray(double nullValue) {
+		double[] values = new double[size()];
+		forEachIndex(Double.class, values.length, (adapter, i) -> {
+			Double value = adapter.adapt(get(i));
+			values[i] = (value == null) ? nullValue : value.doubleValue();
+		});
+		return values;
+	}
+
+	public String[] toStringArray() {
+		String[] values = new String[size()];
+		forEachIndex(String.class, values.length, (adapter, i) -> {
+			values[i] = adapter.adapt(get(i));
+		});
+		return values;
+	}
+
+	@SuppressWarnings("unchecked")
+	public <ValueType> List<ValueType> mapTo(Class<ValueType> valueType) {
+		Object[] values = new Object[size()];
+		forEachIndex(valueType, values.length, (adapter, i) -> {
+			values[i] = adapter.adapt(get(i));
+		});
+		List<ValueType> l = new ArrayList<>(values.length);
+		Collections.addAll(l, (ValueType[]) values);
+		return l;
+	}
+
+	private <ValueType> ValueAdapter<ValueType> getBulkValueAdapter(Class<ValueType> valueType) {
+		ValueAdapter<ValueType> adapter = fValueAdapters.getValueAdapter(fEnv, valueType);
+		if (adapter == null) {
+			throw new IllegalArgumentException(valueType.getName());
+		}
+		return adapter;
+	}
+
+	private <ValueType> void forEachIndex(Class<ValueType> valueType, int size, ObjIntConsumer<ValueAdapter<ValueType>> action) {
+		ValueAdapter<ValueType> adapter = getBulkValueAdapter(valueType);
+		if (size < fParallelThreshold) {
+			for (int i = 0; i < size; i++) {
+				action.accept(adapter, i);
+			}
+			return;
+		}
+
+		int tasks = Math.min(size, ForkJoinPool.getCommonPoolParallelism() * 4);
+		IntStream.range(0, tasks).parallel().forEach(task -> {
+			ValueAdapter<ValueType> taskAdapter = getBulkValueAdapter(valueType);
+			int end = (int) ((long) size * (task + 1) / tasks);
+			for (int i = (int) ((long) size * task / tasks); i < end; i++) {
+				action.accept(taskAdapter, i);
+			}
+		});
 	}
 
 	public static <E> Builder<E> newBuilder() {
@@ -296,22 +425,40 @@ public class AdaptableList<E> implements List<E> {
 
 	public static class Builder<E> {
 		private final List<E> fList = new ArrayList<>();
-		private final Map<Class<?>, Class<? extends ValueAdapter<?>>> fValueAdapterMap;
+		private ValueAdapterRegistry fValueAdapters = ValueAdapterRegistry.getDefault();
+		private ValueAdapterRegistry.Builder fValueAdaptersBuilder;
 		private final Map<String, Object> fEnv = new HashMap<>();
+		private int fParallelThreshold = Integer.MAX_VALUE;
+		private boolean fMemoizeAdaptedValues;
 
-		private Builder() {
-			fValueAdapterMap = ValueAdapters.createValueAdapterMap();
-		}
+		private Builder() {}
 
 		public static <E> Builder<E> create() {
 			return new Builder<>();
 		}
 
 		public <ValueType> Builder<E> setValueAdapter(Class<ValueType> valueType, Class<? extends ValueAdapter<ValueType>> valueAdapterType) {
-			fValueAdapterMap.put(valueType, valueAdapterType);
+			if (fValueAdaptersBuilder == null) {
+				fValueAdaptersBuilder = fValueAdapters.toBuilder();
+			}
+			fValueAdaptersBuilder.setValueAdapter(valueType, valueAdapterType);
+			return this;
+		}
+
+		public Builder<E> setValueAdapters(ValueAdapterRegistry valueAdapters) {
+			fValueAdapters = valueAdapters;
+			fValueAdaptersBuilder = null;
 			return this;
 		}
 
+		private ValueAdapterRegistry getValueAdapters() {
+			if (fValueAdaptersBuilder != null) {
+				fValueAdapters = fValueAdaptersBuilder.build();
+				fValueAdaptersBuilder = null;
+			}
+			return fValueAdapters;
+		}
+
 		public Builder<E> addAll(Collection<? extends E> c) {
 			fList.addAll(c);
 			return this;
@@ -322,6 +469,11 @@ public class AdaptableList<E> implements List<E> {
 			return this;
 		}
 
+		public Builder<E> setMemoizeAdaptedValues(boolean memoizeAdaptedValues) {
+			fMemoizeAdaptedValues = memoizeAdaptedValues;
+			return this;
+		}
+
 		public Builder<E> setProperty(String key, Object value) {
 			fEnv.put(key, value);
 			return this;
@@ -342,11 +494,7 @@ public class AdaptableList<E> implements List<E> {
 		}
 
 		public Builder<E> setZoneId(String zoneId) {
-			if (!ZoneId.getAvailableZoneIds().contains(zoneId)) {
-				throw new IllegalArgumentException(zoneId);
-			}
-
-			setProperty(ValueAdapter.ENV_ZONEID, zoneId);
+			setProperty(ValueAdapter.ENV_ZONEID, ValueAdapters.parseZoneId(zoneId));
 			return this;
 		}
 
@@ -361,11 +509,7 @@ public class AdaptableList<E> implements List<E> {
 		}
 
 		public Builder<E> setDisplayZoneId(String zoneId) {
-			if (!ZoneId.getAvailableZoneIds().contains(zoneId)) {
-				throw new IllegalArgumentException(zoneId);
-			}
-
-			setProperty(ValueAdapter.ENV_DISPLAYZONEID, zoneId);
+			setProperty(ValueAdapter.ENV_DISPLAYZONEID, ValueAdapters.parseZoneId(zoneId));
 			return this;
 		}
 
@@ -379,6 +523,15 @@ public class AdaptableList<E> implements List<E> {
 			return this;
 		}
 
+		public Builder<E> setParallelThreshold(int parallelThreshold) {
+			if (parallelThreshold < 1) {
+				throw new IllegalArgumentException("Invalid parallel threshold: " + parallelThreshold);
+			}
+
+			fParallelThreshold = parallelThreshold;
+			return this;
+		}
+
 		public AdaptableList<E> build() {
 			return new AdaptableList<>(this);
 		}
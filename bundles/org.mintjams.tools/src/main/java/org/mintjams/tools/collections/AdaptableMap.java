@@ -34,28 +34,32 @@ import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.ZoneId;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.TreeMap;
 
 import org.mintjams.tools.adapter.AdaptableValue;
+import org.mintjams.tools.adapter.AdaptationContext;
 import org.mintjams.tools.adapter.ValueAdapter;
+import org.mintjams.tools.adapter.ValueAdapterRegistry;
 import org.mintjams.tools.adapter.ValueAdapters;
 
 public class AdaptableMap<K, V> implements Map<K, V> {
 
 	private final Map<K, V> fMap;
-	private final Map<Class<?>, Class<? extends ValueAdapter<?>>> fValueAdapterMap;
-	private final Map<String, Object> fEnv;
+	private final ValueAdapterRegistry fValueAdapters;
+	private final AdaptationContext fEnv;
+	private final AdaptedValueCache fAdaptedValues;
 
 	private AdaptableMap(Builder<K, V> builder) {
 		fMap = builder.fMap;
-		fValueAdapterMap = builder.fValueAdapterMap;
-		fEnv = builder.fEnv;
+		fValueAdapters = builder.getValueAdapters();
+		fEnv = fValueAdapters.createEnvironment(builder.fEnv);
+		fAdaptedValues = builder.fMemoizeAdaptedValues ? new AdaptedValueCache() : null;
 	}
 
 	@Override
@@ -90,7 +94,11 @@ public class AdaptableMap<K, V> implements Map<K, V> {
 
 	@Override
 	public V remove(Object key) {
-		return fMap.remove(key);
+		V value = fMap.remove(key);
+		if (fAdaptedValues != null) {
+			fAdaptedValues.remove(key);
+		}
+		return value;
 	}
 
 	@Override
@@ -101,6 +109,21 @@ public class AdaptableMap<K, V> implements Map<K, V> {
 	@Override
 	public void clear() {
 		fMap.clear();
+		if (fAdaptedValues != null) {
+			fAdaptedValues.clear();
+		}
+	}
+
+	public void replaceWith(Map<? extends K, ? extends V> m) {
+		if (fMap instanceof ConcurrentSnapshotMap) {
+			((ConcurrentSnapshotMap<K, V>) fMap).replaceWith(m);
+		} else {
+			fMap.clear();
+			fMap.putAll(m);
+		}
+		if (fAdaptedValues != null) {
+			fAdaptedValues.clear();
+		}
 	}
 
 	@Override
@@ -123,105 +146,125 @@ public class AdaptableMap<K, V> implements Map<K, V> {
 	}
 
 	public <ValueType> AdaptableValue<ValueType> adapt(Object key, Class<ValueType> valueType, HashMap<String, Object> env) {
-		Class<? extends ValueAdapter<?>> valueAdapterType = fValueAdapterMap.get(valueType);
-		if (valueAdapterType != null) {
-			if (env == null) {
-				env = new HashMap<>();
-			}
-			if (!env.containsKey(ValueAdapter.ENV_VALUEADAPTERS)) {
-				env.put(ValueAdapter.ENV_VALUEADAPTERS, Collections.unmodifiableMap(fValueAdapterMap));
-			}
-			for (Map.Entry<String, Object> e : fEnv.entrySet()) {
-				if (!env.containsKey(e.getKey())) {
-					env.put(e.getKey(), e.getValue());
-				}
-			}
+		if (fValueAdapters.contains(valueType)) {
 			try {
-				return ValueAdapters.createValueAdapter(env, valueType).getAdaptableValue(get(key));
+				return getValueAdapter(valueType, env).getAdaptableValue(get(key));
 			} catch (Throwable ignore) {}
 		}
 
 		return null;
 	}
 
+	private <ValueType> ValueAdapter<ValueType> getValueAdapter(Class<ValueType> valueType, Map<String, Object> env) {
+		if (env == null) {
+			return fValueAdapters.getValueAdapter(fEnv, valueType);
+		}
+
+		Object valueAdapters = env.get(ValueAdapter.ENV_VALUEADAPTERS);
+		if (valueAdapters == null || valueAdapters instanceof ValueAdapterRegistry) {
+			return fValueAdapters.createValueAdapter(fEnv.with(env), valueType);
+		}
+
+		for (Map.Entry<String, Object> e : fEnv.entrySet()) {
+			if (!env.containsKey(e.getKey())) {
+				env.put(e.getKey(), e.getValue());
+			}
+		}
+		return fValueAdapters.createValueAdapter(env, valueType);
+	}
+
+	private <ValueType> ValueType getValue(Object key, Class<ValueType> valueType) {
+		Object value = get(key);
+		if (fAdaptedValues == null || value == null || !AdaptedValueCache.isCacheable(value, valueType)) {
+			return fValueAdapters.getValueAdapter(fEnv, valueType).adapt(value);
+		}
+
+		Object adaptedValue = fAdaptedValues.get(key, valueType, value);
+		if (adaptedValue == AdaptedValueCache.NONE) {
+			adaptedValue = fValueAdapters.getValueAdapter(fEnv, valueType).adapt(value);
+			fAdaptedValues.put(key, valueType, value, adaptedValue);
+		}
+		return valueType.cast(adaptedValue);
+	}
+
 	public BigDecimal getBigDecimal(Object key) {
-		return adapt(key, BigDecimal.class).getValue();
+		return getValue(key, BigDecimal.class);
 	}
 
 	public BigInteger getBigInteger(Object key) {
-		return adapt(key, BigInteger.class).getValue();
+		return getValue(key, BigInteger.class);
 	}
 
 	public Boolean getBoolean(Object key) {
-		return adapt(key, Boolean.class).getValue();
+		return getValue(key, Boolean.class);
 	}
 
 	public Byte getByte(Object key) {
-		return adapt(key, Byte.class).getValue();
+		return getValue(key, Byte.class);
 	}
 
 	public Character getCharacter(Object key) {
-		return adapt(key, Character.class).getValue();
+		return getValue(key, Character.class);
 	}
 
 	public java.util.Date getDate(Object key) {
-		return adapt(key, java.util.Date.class).getValue();
+		return getValue(key, java.util.Date.class);
 	}
 
 	public Double getDouble(Object key) {
-		return adapt(key, Double.class).getValue();
+		return getValue(key, Double.class);
 	}
 
 	public Float getFloat(Object key) {
-		return adapt(key, Float.class).getValue();
+		return getValue(key, Float.class);
 	}
 
 	public Object[] getObjectArray(Object key) {
-		return adapt(key, Object[].class).getValue();
+		return getValue(key, Object[].class);
 	}
 
 	public InputStream getInputStream(Object key) {
-		return adapt(key, InputStream.class).getValue();
+		return getValue(key, InputStream.class);
 	}
 
 	public Integer getInteger(Object key) {
-		return adapt(key, Integer.class).getValue();
+		return getValue(key, Integer.class);
 	}
 
 	public Long getLong(Object key) {
-		return adapt(key, Long.class).getValue();
+		return getValue(key, Long.class);
 	}
 
 	public Reader getReader(Object key) {
-		return adapt(key, Reader.class).getValue();
+		return getValue(key, Reader.class);
 	}
 
 	public Short getShort(Object key) {
-		return adapt(key, Short.class).getValue();
+		return getValue(key, Short.class);
 	}
 
 	public String getString(Object key) {
-		return adapt(key, String.class).getValue();
+		return getValue(key, String.class);
 	}
 
 	public OffsetDateTime getOffsetDateTime(Object key) {
-		return adapt(key, OffsetDateTime.class).getValue();
+		return getValue(key, OffsetDateTime.class);
 	}
 
 	public LocalDateTime getLocalDateTime(Object key) {
-		return adapt(key, LocalDateTime.class).getValue();
+		return getValue(key, LocalDateTime.class);
 	}
 
 	public LocalDate getLocalDate(Object key) {
-		return adapt(key, LocalDate.class).getValue();
+		return getValue(key, LocalDate.class);
 	}
 
 	public OffsetTime getOffsetTime(Object key) {
-		return adapt(key, OffsetTime.class).getValue();
+		return getValue(key, OffsetTime.class);
 	}
 
 	public LocalTime getLocalTime(Object key) {
-		return adapt(key, LocalTime.class).getValue();
+		return getValue(key, LocalTime.class);
 	}
 
 	public static <K, V> Builder<K, V> newBuilder() {
@@ -232,10 +275,28 @@ public class AdaptableMap<K, V> implements Map<K, V> {
 		return Builder.<K, V>create(comparator);
 	}
 
+	public static <K, V> Builder<K, V> wrap(Map<K, V> map) {
+		return Builder.<K, V>wrap(map);
+	}
+
+	public static <K, V> Builder<K, V> newConcurrentBuilder() {
+		return Builder.<K, V>createConcurrent();
+	}
+
+	public static <V> Builder<String, V> newCaseInsensitiveBuilder() {
+		return Builder.<V>createCaseInsensitive();
+	}
+
+	public static <V> Builder<String, V> newCaseInsensitiveBuilder(CaseInsensitiveMap.KeyTable keyTable) {
+		return Builder.<V>createCaseInsensitive(keyTable);
+	}
+
 	public static class Builder<K, V> {
 		private final Map<K, V> fMap;
-		private final Map<Class<?>, Class<? extends ValueAdapter<?>>> fValueAdapterMap;
+		private ValueAdapterRegistry fValueAdapters = ValueAdapterRegistry.getDefault();
+		private ValueAdapterRegistry.Builder fValueAdaptersBuilder;
 		private final Map<String, Object> fEnv = new HashMap<>();
+		private boolean fMemoizeAdaptedValues;
 
 		private Builder(Comparator<? super K> comparator) {
 			if (comparator != null) {
@@ -243,22 +304,58 @@ public class AdaptableMap<K, V> implements Map<K, V> {
 			} else {
 				fMap = new TreeMap<>();
 			}
-			fValueAdapterMap = ValueAdapters.createValueAdapterMap();
+		}
+
+		private Builder(Map<K, V> map) {
+			fMap = map;
 		}
 
 		public static <K, V> Builder<K, V> create() {
-			return new Builder<>(null);
+			return new Builder<>((Comparator<? super K>) null);
 		}
 
 		public static <K, V> Builder<K, V> create(Comparator<? super K> comparator) {
 			return new Builder<>(comparator);
 		}
 
+		public static <K, V> Builder<K, V> wrap(Map<K, V> map) {
+			return new Builder<>(Objects.requireNonNull(map));
+		}
+
+		public static <K, V> Builder<K, V> createConcurrent() {
+			return new Builder<>(new ConcurrentSnapshotMap<K, V>());
+		}
+
+		public static <V> Builder<String, V> createCaseInsensitive() {
+			return new Builder<>(new CaseInsensitiveMap<V>());
+		}
+
+		public static <V> Builder<String, V> createCaseInsensitive(CaseInsensitiveMap.KeyTable keyTable) {
+			return new Builder<>(new CaseInsensitiveMap<V>(keyTable));
+		}
+
 		public <ValueType> Builder<K, V> setValueAdapter(Class<ValueType> valueType, Class<ValueAdapter<ValueType>> valueAdapterType) {
-			fValueAdapterMap.put(valueType, valueAdapterType);
+			if (fValueAdaptersBuilder == null) {
+				fValueAdaptersBuilder = fValueAdapters.toBuilder();
+			}
+			fValueAdaptersBuilder.setValueAdapter(valueType, valueAdapterType);
+			return this;
+		}
+
+		public Builder<K, V> setValueAdapters(ValueAdapterRegistry valueAdapters) {
+			fValueAdapters = valueAdapters;
+			fValueAdaptersBuilder = null;
 			return this;
 		}
 
+		private ValueAdapterRegistry getValueAdapters() {
+			if (fValueAdaptersBuilder != null) {
+				fValueAdapters = fValueAdaptersBuilder.build();
+				fValueAdaptersBuilder = null;
+			}
+			return fValueAdapters;
+		}
+
 		public Builder<K, V> putAll(Map<? extends K, ? extends V> m) {
 			fMap.putAll(m);
 			return this;
@@ -269,6 +366,11 @@ public class AdaptableMap<K, V> implements Map<K, V> {
 			return this;
 		}
 
+		public Builder<K, V> setMemoizeAdaptedValues(boolean memoizeAdaptedValues) {
+			fMemoizeAdaptedValues = memoizeAdaptedValues;
+			return this;
+		}
+
 		public Builder<K, V> setProperty(String key, Object value) {
 			fEnv.put(key, value);
 			return this;
@@ -289,11 +391,7 @@ public class AdaptableMap<K, V> implements Map<K, V> {
 		}
 
 		public Builder<K, V> setZoneId(String zoneId) {
-			if (!ZoneId.getAvailableZoneIds().contains(zoneId)) {
-				throw new IllegalArgumentException(zoneId);
-			}
-
-			setProperty(ValueAdapter.ENV_ZONEID, zoneId);
+			setProperty(ValueAdapter.ENV_ZONEID, ValueAdapters.parseZoneId(zoneId));
 			return this;
 		}
 
@@ -308,11 +406,7 @@ public class AdaptableMap<K, V> implements Map<K, V> {
 		}
 
 		public Builder<K, V> setDisplayZoneId(String zoneId) {
-			if (!ZoneId.getAvailableZoneIds().contains(zoneId)) {
-				throw new IllegalArgumentException(zoneId);
-			}
-
-			setProperty(ValueAdapter.ENV_DISPLAYZONEID, zoneId);
+			setProperty(ValueAdapter.ENV_DISPLAYZONEID, ValueAdapters.parseZoneId(zoneId));
 			return this;
 		}
 
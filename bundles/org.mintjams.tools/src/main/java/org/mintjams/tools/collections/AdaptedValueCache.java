@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.collections;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+final class AdaptedValueCache {
+
+	static final Object NONE = new Object();
+
+	private static final Set<Class<?>> IMMUTABLE_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+			String.class,
+			Boolean.class,
+			Character.class,
+			Byte.class,
+			Short.class,
+			Integer.class,
+			Long.class,
+			Float.class,
+			Double.class,
+			BigDecimal.class,
+			BigInteger.class,
+			OffsetDateTime.class,
+			ZonedDateTime.class,
+			LocalDateTime.class,
+			LocalDate.class,
+			OffsetTime.class,
+			LocalTime.class,
+			URI.class,
+			URL.class)));
+
+	private Object[] fKeys = new Object[16];
+	private Class<?>[] fTypes = new Class<?>[16];
+	private Object[] fSources = new Object[16];
+	private Object[] fValues = new Object[16];
+	private int fSize;
+
+	static boolean isCacheable(Object source, Class<?> valueType) {
+		return IMMUTABLE_TYPES.contains(valueType) && IMMUTABLE_TYPES.contains(source.getClass());
+	}
+
+	synchronized Object get(Object key, Class<?> valueType, Object source) {
+		int mask = fTypes.length - 1;
+		for (int i = hash(key) & mask;; i = (i + 1) & mask) {
+			Class<?> type = fTypes[i];
+			if (type == null) {
+				return NONE;
+			}
+			if (type == valueType && Objects.equals(fKeys[i], key)) {
+				return (fSources[i] == source) ? fValues[i] : NONE;
+			}
+		}
+	}
+
+	synchronized void put(Object key, Class<?> valueType, Object source, Object value) {
+		if ((fSize + 1) * 2 > fTypes.length) {
+			resize();
+		}
+
+		int mask = fTypes.length - 1;
+		for (int i = hash(key) & mask;; i = (i + 1) & mask) {
+			Class<?> type = fTypes[i];
+			if (type == null) {
+				fKeys[i] = key;
+				fTypes[i] = valueType;
+				fSources[i] = source;
+				fValues[i] = value;
+				fSize++;
+				return;
+			}
+			if (type == valueType && Objects.equals(fKeys[i], key)) {
+				fSources[i] = source;
+				fValues[i] = value;
+				return;
+			}
+		}
+	}
+
+	synchronized void remove(Object key) {
+		int mask = fTypes.length - 1;
+		for (int i = hash(key) & mask; fTypes[i] != null; i = (i + 1) & mask) {
+			if (Objects.equals(fKeys[i], key)) {
+				fSources[i] = null;
+				fValues[i] = null;
+			}
+		}
+	}
+
+	synchronized void clear() {
+		if (fSize == 0) {
+			return;
+		}
+
+		Arrays.fill(fKeys, null);
+		Arrays.fill(fTypes, null);
+		Arrays.fill(fSources, null);
+		Arrays.fill(fValues, null);
+		fSize = 0;
+	}
+
+	private void resize() {
+		Object[] keys = fKeys;
+		Class<?>[] types = fTypes;
+		Object[] sources = fSources;
+		Object[] values = fValues;
+		int capacity = types.length * 2;
+		fKeys = new Object[capacity];
+		fTypes = new Class<?>[capacity];
+		fSources = new Object[capacity];
+		fValues = new Object[capacity];
+		fSize = 0;
+		for (int i = 0; i < types.length; i++) {
+			if (types[i] != null && sources[i] != null) {
+				put(keys[i], types[i], sources[i], values[i]);
+			}
+		}
+	}
+
+	private static int hash(Object key) {
+		int hash = Objects.hashCode(key);
+		return hash ^ (hash >>> 16);
+	}
+
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class CaseInsensitiveMap<V> extends AbstractMap<String, V> {
+
+	private static final Object ABSENT = new Object();
+
+	private KeyTable fKeyTable;
+	private boolean fShared;
+	private boolean fSorted = true;
+	private Object[] fValues;
+	private int fSize;
+	private int fModCount;
+	private Set<Entry<String, V>> fEntrySet;
+
+	public CaseInsensitiveMap() {
+		this(KeyTable.EMPTY);
+	}
+
+	public CaseInsensitiveMap(KeyTable keyTable) {
+		fKeyTable = Objects.requireNonNull(keyTable);
+		fShared = true;
+		fValues = new Object[keyTable.size()];
+		Arrays.fill(fValues, ABSENT);
+	}
+
+	public CaseInsensitiveMap(Map<String, ? extends V> m) {
+		this(KeyTable.of(m.keySet()));
+		fShared = false;
+		putAll(m);
+	}
+
+	@Override
+	public int size() {
+		return fSize;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return (fSize == 0);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		int i = fKeyTable.indexOf(key);
+		return (i >= 0 && fValues[i] != ABSENT);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		int i = fKeyTable.indexOf(key);
+		if (i < 0) {
+			return null;
+		}
+
+		Object value = fValues[i];
+		return (value == ABSENT) ? null : (V) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(String key, V value) {
+		int i = fKeyTable.indexOf(key);
+		if (i < 0) {
+			insert(key, value);
+			return null;
+		}
+
+		Object oldValue = fValues[i];
+		if (oldValue == ABSENT) {
+			if (!fKeyTable.fKeys[i].equals(key)) {
+				if (fShared) {
+					rebuild(false, 1);
+					insert(key, value);
+					return null;
+				}
+				fKeyTable.fKeys[i] = key;
+			}
+			fValues[i] = value;
+			fSize++;
+			return null;
+		}
+
+		fValues[i] = value;
+		return (V) oldValue;
+	}
+
+	private void insert(String key, V value) {
+		if (fShared || fKeyTable.size() == fKeyTable.fKeys.length) {
+			rebuild(false, 1);
+		}
+
+		int n = fKeyTable.size();
+		if (fSorted && n > 0 && String.CASE_INSENSITIVE_ORDER.compare(key, fKeyTable.fKeys[n - 1]) < 0) {
+			fSorted = false;
+		}
+		fKeyTable.add(key);
+		fValues[n] = value;
+		fSize++;
+		fModCount++;
+	}
+
+	private void sort() {
+		if (!fSorted) {
+			rebuild(true, 0);
+		}
+	}
+
+	private void rebuild(boolean sort, int extra) {
+		Integer[] indexes = new Integer[fSize];
+		int n = 0;
+		for (int i = 0; i < fKeyTable.size(); i++) {
+			if (fValues[i] != ABSENT) {
+				indexes[n++] = i;
+			}
+		}
+		if (sort) {
+			String[] keys = fKeyTable.fKeys;
+			Arrays.sort(indexes, (i1, i2) -> String.CASE_INSENSITIVE_ORDER.compare(keys[i1], keys[i2]));
+		}
+
+		int capacity = sort ? fSize : Math.max(fSize * 2, fSize + extra);
+		KeyTable keyTable = new KeyTable(capacity);
+		Object[] values = new Object[capacity];
+		for (int i = 0; i < indexes.length; i++) {
+			keyTable.add(fKeyTable.fKeys[indexes[i]]);
+			values[i] = fValues[indexes[i]];
+		}
+		Arrays.fill(values, indexes.length, capacity, ABSENT);
+
+		fKeyTable = keyTable;
+		fValues = values;
+		fShared = false;
+		fSorted |= sort;
+		fModCount++;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		int i = fKeyTable.indexOf(key);
+		if (i < 0) {
+			return null;
+		}
+
+		Object oldValue = fValues[i];
+		if (oldValue == ABSENT) {
+			return null;
+		}
+
+		fValues[i] = ABSENT;
+		fSize--;
+		return (V) oldValue;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(fValues, ABSENT);
+		fSize = 0;
+		if (!fShared) {
+			fKeyTable = KeyTable.EMPTY;
+			fValues = new Object[0];
+			fShared = true;
+			fSorted = true;
+			fModCount++;
+		}
+	}
+
+	@Override
+	public Set<Entry<String, V>> entrySet() {
+		if (fEntrySet == null) {
+			fEntrySet = new EntrySet();
+		}
+		return fEntrySet;
+	}
+
+	private class EntrySet extends AbstractSet<Entry<String, V>> {
+		@Override
+		public int size() {
+			return fSize;
+		}
+
+		@Override
+		public void clear() {
+			CaseInsensitiveMap.this.clear();
+		}
+
+		@Override
+		public Iterator<Entry<String, V>> iterator() {
+			sort();
+			return new EntryIterator();
+		}
+	}
+
+	private class EntryIterator implements Iterator<Entry<String, V>> {
+		private final int fLength = fKeyTable.size();
+		private final int fExpectedModCount = fModCount;
+		private int fNext = advance(0);
+		private int fLast = -1;
+
+		private int advance(int i) {
+			while (i < fLength && fValues[i] == ABSENT) {
+				i++;
+			}
+			return i;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return fNext < fLength;
+		}
+
+		@Override
+		public Entry<String, V> next() {
+			if (fExpectedModCount != fModCount) {
+				throw new ConcurrentModificationException();
+			}
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			fLast = fNext;
+			fNext = advance(fNext + 1);
+			return new EntryImpl(fLast);
+		}
+
+		@Override
+		public void remove() {
+			if (fLast < 0) {
+				throw new IllegalStateException();
+			}
+			if (fExpectedModCount != fModCount) {
+				throw new ConcurrentModificationException();
+			}
+
+			if (fValues[fLast] != ABSENT) {
+				fValues[fLast] = ABSENT;
+				fSize--;
+			}
+			fLast = -1;
+		}
+	}
+
+	private class EntryImpl implements Entry<String, V> {
+		private final Object[] fEntryValues = fValues;
+		private final String fKey;
+		private final int fIndex;
+
+		private EntryImpl(int index) {
+			fKey = fKeyTable.fKeys[index];
+			fIndex = index;
+		}
+
+		@Override
+		public String getKey() {
+			return fKey;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V getValue() {
+			Object value = fEntryValues[fIndex];
+			return (value == ABSENT) ? null : (V) value;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V setValue(V value) {
+			if (fEntryValues != fValues || fValues[fIndex] == ABSENT) {
+				throw new ConcurrentModificationException();
+			}
+
+			Object oldValue = fValues[fIndex];
+			fValues[fIndex] = value;
+			return (V) oldValue;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Entry)) {
+				return false;
+			}
+
+			Entry<?, ?> e = (Entry<?, ?>) o;
+			return fKey.equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+		}
+
+		@Override
+		public int hashCode() {
+			return fKey.hashCode() ^ Objects.hashCode(getValue());
+		}
+
+		@Override
+		public String toString() {
+			return fKey + "=" + getValue();
+		}
+	}
+
+	public static final class KeyTable {
+		private static final KeyTable EMPTY = new KeyTable(0);
+
+		private final String[] fKeys;
+		private final int[] fHashes;
+		private final int[] fSlots;
+		private final int fMask;
+		private int fSize;
+
+		private KeyTable(int capacity) {
+			fKeys = new String[capacity];
+			fHashes = new int[capacity];
+			int slots = Integer.highestOneBit(Math.max(capacity * 2, 2) - 1) << 1;
+			fSlots = new int[slots];
+			fMask = slots - 1;
+		}
+
+		public static KeyTable of(Collection<String> keys) {
+			Set<String> sortedKeys = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+			sortedKeys.addAll(keys);
+			KeyTable keyTable = new KeyTable(sortedKeys.size());
+			for (String key : sortedKeys) {
+				keyTable.add(key);
+			}
+			return keyTable;
+		}
+
+		public int size() {
+			return fSize;
+		}
+
+		private void add(String key) {
+			int hash = hash(key);
+			fKeys[fSize] = key;
+			fHashes[fSize] = hash;
+			int slot = hash & fMask;
+			while (fSlots[slot] != 0) {
+				slot = (slot + 1) & fMask;
+			}
+			fSlots[slot] = ++fSize;
+		}
+
+		private int indexOf(Object key) {
+			String s = (String) Objects.requireNonNull(key);
+			int hash = hash(s);
+			for (int slot = hash & fMask;; slot = (slot + 1) & fMask) {
+				int i = fSlots[slot] - 1;
+				if (i < 0) {
+					return -1;
+				}
+				if (fHashes[i] == hash && String.CASE_INSENSITIVE_ORDER.compare(fKeys[i], s) == 0) {
+					return i;
+				}
+			}
+		}
+
+		private static int hash(String key) {
+			int hash = 0;
+			for (int i = 0; i < key.length();) {
+				int c = key.codePointAt(i);
+				hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(c));
+				i += Character.charCount(c);
+			}
+			return hash ^ (hash >>> 16);
+		}
+	}
+
+}
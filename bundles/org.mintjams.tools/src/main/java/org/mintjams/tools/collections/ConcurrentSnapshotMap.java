@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+final class ConcurrentSnapshotMap<K, V> extends AbstractMap<K, V> {
+
+	private static final Object NULL = new Object();
+
+	private volatile ConcurrentHashMap<K, Object> fMap = new ConcurrentHashMap<>();
+	private final ReentrantReadWriteLock fSwapLock = new ReentrantReadWriteLock();
+
+	@Override
+	public int size() {
+		return fMap.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return fMap.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return fMap.containsKey(key);
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		return fMap.containsValue(mask(value));
+	}
+
+	@Override
+	public V get(Object key) {
+		return unmask(fMap.get(key));
+	}
+
+	@Override
+	public V put(K key, V value) {
+		Lock lock = fSwapLock.readLock();
+		lock.lock();
+		try {
+			return unmask(fMap.put(key, mask(value)));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public V remove(Object key) {
+		Lock lock = fSwapLock.readLock();
+		lock.lock();
+		try {
+			return unmask(fMap.remove(key));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void putAll(Map<? extends K, ? extends V> m) {
+		Lock lock = fSwapLock.readLock();
+		lock.lock();
+		try {
+			ConcurrentHashMap<K, Object> map = fMap;
+			for (Map.Entry<? extends K, ? extends V> e : m.entrySet()) {
+				map.put(e.getKey(), mask(e.getValue()));
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		swap(new ConcurrentHashMap<>());
+	}
+
+	void replaceWith(Map<? extends K, ? extends V> m) {
+		ConcurrentHashMap<K, Object> map = new ConcurrentHashMap<>(Math.max(m.size(), 16));
+		for (Map.Entry<? extends K, ? extends V> e : m.entrySet()) {
+			map.put(e.getKey(), mask(e.getValue()));
+		}
+		swap(map);
+	}
+
+	private void swap(ConcurrentHashMap<K, Object> map) {
+		Lock lock = fSwapLock.writeLock();
+		lock.lock();
+		try {
+			fMap = map;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<Entry<K, V>>() {
+			@Override
+			public int size() {
+				return fMap.size();
+			}
+
+			@Override
+			public void clear() {
+				ConcurrentSnapshotMap.this.clear();
+			}
+
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				Iterator<Entry<K, Object>> i = fMap.entrySet().iterator();
+				return new Iterator<Entry<K, V>>() {
+					private K fLastKey;
+					private boolean fRemovable;
+
+					@Override
+					public boolean hasNext() {
+						return i.hasNext();
+					}
+
+					@Override
+					public Entry<K, V> next() {
+						Entry<K, Object> e = i.next();
+						fLastKey = e.getKey();
+						fRemovable = true;
+						return new SimpleEntry<K, V>(e.getKey(), unmask(e.getValue())) {
+							private static final long serialVersionUID = 1L;
+
+							@Override
+							public V setValue(V value) {
+								ConcurrentSnapshotMap.this.put(getKey(), value);
+								return super.setValue(value);
+							}
+						};
+					}
+
+					@Override
+					public void remove() {
+						if (!fRemovable) {
+							throw new IllegalStateException();
+						}
+						fRemovable = false;
+						ConcurrentSnapshotMap.this.remove(fLastKey);
+					}
+				};
+			}
+		};
+	}
+
+	private static Object mask(Object value) {
+		return (value == null) ? NULL : value;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <V> V unmask(Object value) {
+		return (value == NULL) ? null : (V) value;
+	}
+
+}
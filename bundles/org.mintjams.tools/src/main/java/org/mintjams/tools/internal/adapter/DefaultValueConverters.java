@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.internal.adapter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+
+import org.mintjams.tools.adapter.ValueAdapterRegistry;
+import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.internal.util.Dates;
+
+public class DefaultValueConverters {
+
+	private DefaultValueConverters() {}
+
+	public static ValueAdapterRegistry.Builder register(ValueAdapterRegistry.Builder builder) {
+		registerIdentities(builder);
+		registerNumbers(builder);
+		registerDates(builder);
+		return builder;
+	}
+
+	private static void registerIdentities(ValueAdapterRegistry.Builder builder) {
+		for (Class<?> type : new Class<?>[] {
+				BigDecimal.class,
+				BigInteger.class,
+				Boolean.class,
+				Byte.class,
+				Character.class,
+				java.util.Calendar.class,
+				Double.class,
+				Float.class,
+				Integer.class,
+				Long.class,
+				Short.class,
+				String.class,
+				java.sql.Date.class,
+				java.sql.Timestamp.class,
+				java.sql.Time.class,
+				OffsetDateTime.class,
+				ZonedDateTime.class,
+				LocalDateTime.class,
+				LocalDate.class,
+				OffsetTime.class,
+				LocalTime.class,
+				URI.class,
+				URL.class }) {
+			registerIdentity(builder, type);
+		}
+	}
+
+	private static <T> void registerIdentity(ValueAdapterRegistry.Builder builder, Class<T> type) {
+		builder.setConverter(type, type, (value, env) -> value);
+	}
+
+	private static void registerNumbers(ValueAdapterRegistry.Builder builder) {
+		builder.setConverter(Number.class, Long.class, (value, env) -> value.longValue())
+				.setConverter(Number.class, Integer.class, (value, env) -> value.intValue())
+				.setConverter(Number.class, Short.class, (value, env) -> value.shortValue())
+				.setConverter(Number.class, Byte.class, (value, env) -> value.byteValue())
+				.setConverter(Number.class, Double.class, (value, env) -> value.doubleValue())
+				.setConverter(Number.class, Float.class, (value, env) -> value.floatValue());
+	}
+
+	private static void registerDates(ValueAdapterRegistry.Builder builder) {
+		builder.setConverter(java.sql.Timestamp.class, java.util.Date.class, (value, env) -> Dates.asDate(value))
+				.setConverter(java.sql.Date.class, java.util.Date.class, (value, env) -> Dates.asDate(value))
+				.setConverter(java.sql.Time.class, java.util.Date.class, (value, env) -> Dates.asDate(value))
+				.setConverter(java.util.Date.class, java.util.Date.class, (value, env) -> value)
+				.setConverter(java.util.Calendar.class, java.util.Date.class, (value, env) -> value.getTime())
+				.setConverter(OffsetDateTime.class, java.util.Date.class, (value, env) -> Dates.asDate(value))
+				.setConverter(ZonedDateTime.class, java.util.Date.class, (value, env) -> Dates.asDate(value))
+				.setConverter(LocalDateTime.class, java.util.Date.class, (value, env) -> Dates.asDate(value, ValueAdapters.getZoneId(env)))
+				.setConverter(LocalDate.class, java.util.Date.class, (value, env) -> Dates.asDate(value))
+				.setConverter(OffsetTime.class, java.util.Date.class, (value, env) -> Dates.asDate(value))
+				.setConverter(LocalTime.class, java.util.Date.class, (value, env) -> Dates.asDate(value, ValueAdapters.getZoneId(env)))
+				.setConverter(Long.class, java.util.Date.class, (value, env) -> Dates.asDate(value.longValue()));
+	}
+
+}
@@ -23,7 +23,6 @@
 package org.mintjams.tools.internal.io;
 
 import java.io.File;
-import java.lang.reflect.ParameterizedType;
 import java.net.URI;
 import java.net.URL;
 import java.nio.file.Path;
@@ -31,8 +30,8 @@ import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class FileValueAdapter extends AbstractValueAdapter<File> {
@@ -47,6 +46,11 @@ public class FileValueAdapter extends AbstractValueAdapter<File> {
 
 	@Override
 	public File adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public File tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -56,6 +60,11 @@ public class FileValueAdapter extends AbstractValueAdapter<File> {
 			}
 		}
 
+		ValueConverter<Object, File> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		File fileValue = Adaptables.getAdapter(value, File.class);
 		if (fileValue != null) {
 			return fileValue;
@@ -76,14 +85,12 @@ public class FileValueAdapter extends AbstractValueAdapter<File> {
 			return new File(uriValue.getPath());
 		}
 
-		try {
-			String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).adapt(value);
+		String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).tryAdapt(value);
+		if (stringValue != null) {
 			return new File(stringValue);
-		} catch (UnadaptableValueException ignore) {}
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
@@ -27,7 +27,6 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.ParameterizedType;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.SQLException;
@@ -35,7 +34,7 @@ import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
+import org.mintjams.tools.adapter.ValueConverter;
 
 public class InputStreamValueAdapter extends AbstractValueAdapter<InputStream> {
 
@@ -49,10 +48,20 @@ public class InputStreamValueAdapter extends AbstractValueAdapter<InputStream> {
 
 	@Override
 	public InputStream adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public InputStream tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
 
+		ValueConverter<Object, InputStream> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		InputStream streamValue = Adaptables.getAdapter(value, InputStream.class);
 		if (streamValue != null) {
 			return streamValue;
@@ -99,9 +108,7 @@ public class InputStreamValueAdapter extends AbstractValueAdapter<InputStream> {
 			}
 		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
@@ -23,7 +23,6 @@
 package org.mintjams.tools.internal.io;
 
 import java.io.File;
-import java.lang.reflect.ParameterizedType;
 import java.net.URI;
 import java.net.URL;
 import java.nio.file.Path;
@@ -32,8 +31,8 @@ import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class PathValueAdapter extends AbstractValueAdapter<Path> {
@@ -48,6 +47,11 @@ public class PathValueAdapter extends AbstractValueAdapter<Path> {
 
 	@Override
 	public Path adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public Path tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -57,6 +61,11 @@ public class PathValueAdapter extends AbstractValueAdapter<Path> {
 			}
 		}
 
+		ValueConverter<Object, Path> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		Path pathValue = Adaptables.getAdapter(value, Path.class);
 		if (pathValue != null) {
 			return pathValue;
@@ -77,14 +86,12 @@ public class PathValueAdapter extends AbstractValueAdapter<Path> {
 			return Paths.get(uriValue.getPath());
 		}
 
-		try {
-			String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).adapt(value);
+		String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).tryAdapt(value);
+		if (stringValue != null) {
 			return Paths.get(stringValue);
-		} catch (UnadaptableValueException ignore) {}
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
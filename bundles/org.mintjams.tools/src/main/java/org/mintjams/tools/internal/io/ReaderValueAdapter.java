@@ -30,14 +30,13 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
-import java.lang.reflect.ParameterizedType;
 import java.sql.Clob;
 import java.sql.SQLException;
 import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
+import org.mintjams.tools.adapter.ValueConverter;
 
 public class ReaderValueAdapter extends AbstractValueAdapter<Reader> {
 
@@ -51,10 +50,20 @@ public class ReaderValueAdapter extends AbstractValueAdapter<Reader> {
 
 	@Override
 	public Reader adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public Reader tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
 
+		ValueConverter<Object, Reader> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		Reader readerValue = Adaptables.getAdapter(value, Reader.class);
 		if (readerValue != null) {
 			return readerValue;
@@ -101,9 +110,7 @@ public class ReaderValueAdapter extends AbstractValueAdapter<Reader> {
 			return new StringReader(stringValue);
 		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
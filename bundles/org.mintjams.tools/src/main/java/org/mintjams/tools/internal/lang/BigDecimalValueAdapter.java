@@ -22,7 +22,6 @@
 
 package org.mintjams.tools.internal.lang;
 
-import java.lang.reflect.ParameterizedType;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -34,8 +33,8 @@ import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.internal.util.Dates;
 import org.mintjams.tools.lang.Strings;
 
@@ -51,6 +50,11 @@ public class BigDecimalValueAdapter extends AbstractValueAdapter<BigDecimal> {
 
 	@Override
 	public BigDecimal adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public BigDecimal tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -60,6 +64,11 @@ public class BigDecimalValueAdapter extends AbstractValueAdapter<BigDecimal> {
 			}
 		}
 
+		ValueConverter<Object, BigDecimal> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		BigDecimal bigDecimalValue = Adaptables.getAdapter(value, BigDecimal.class);
 		if (bigDecimalValue != null) {
 			return bigDecimalValue;
@@ -79,14 +88,12 @@ public class BigDecimalValueAdapter extends AbstractValueAdapter<BigDecimal> {
 			return BigDecimal.valueOf(asDate((Temporal) value).getTime());
 		}
 
-		try {
-			String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).adapt(value);
+		String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).tryAdapt(value);
+		if (stringValue != null) {
 			return new BigDecimal(stringValue);
-		} catch (UnadaptableValueException ignore) {}
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 	private java.util.Date asDate(Temporal value) {
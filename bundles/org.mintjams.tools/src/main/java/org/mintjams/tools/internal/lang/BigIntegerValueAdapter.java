@@ -22,8 +22,6 @@
 
 package org.mintjams.tools.internal.lang;
 
-import java.lang.reflect.ParameterizedType;
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -35,8 +33,8 @@ import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.internal.util.Dates;
 import org.mintjams.tools.lang.Strings;
 
@@ -52,6 +50,11 @@ public class BigIntegerValueAdapter extends AbstractValueAdapter<BigInteger> {
 
 	@Override
 	public BigInteger adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public BigInteger tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -61,6 +64,11 @@ public class BigIntegerValueAdapter extends AbstractValueAdapter<BigInteger> {
 			}
 		}
 
+		ValueConverter<Object, BigInteger> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		BigInteger bigIntegerValue = Adaptables.getAdapter(value, BigInteger.class);
 		if (bigIntegerValue != null) {
 			return bigIntegerValue;
@@ -80,14 +88,12 @@ public class BigIntegerValueAdapter extends AbstractValueAdapter<BigInteger> {
 			return BigInteger.valueOf(asDate((Temporal) value).getTime());
 		}
 
-		try {
-			String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).adapt(value);
-			return BigInteger.valueOf(new BigDecimal(stringValue).longValue());
-		} catch (UnadaptableValueException ignore) {}
+		String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).tryAdapt(value);
+		if (stringValue != null) {
+			return BigInteger.valueOf(Numbers.parseLong(stringValue));
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 	private java.util.Date asDate(Temporal value) {
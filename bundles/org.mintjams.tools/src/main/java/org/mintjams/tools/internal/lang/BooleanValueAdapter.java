@@ -22,13 +22,12 @@
 
 package org.mintjams.tools.internal.lang;
 
-import java.lang.reflect.ParameterizedType;
 import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class BooleanValueAdapter extends AbstractValueAdapter<Boolean> {
@@ -43,6 +42,11 @@ public class BooleanValueAdapter extends AbstractValueAdapter<Boolean> {
 
 	@Override
 	public Boolean adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public Boolean tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -52,19 +56,22 @@ public class BooleanValueAdapter extends AbstractValueAdapter<Boolean> {
 			}
 		}
 
+		ValueConverter<Object, Boolean> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		Boolean booleanValue = Adaptables.getAdapter(value, Boolean.class);
 		if (booleanValue != null) {
 			return booleanValue;
 		}
 
-		try {
-			String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).adapt(value);
+		String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).tryAdapt(value);
+		if (stringValue != null) {
 			return Boolean.valueOf(stringValue);
-		} catch (UnadaptableValueException ignore) {}
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
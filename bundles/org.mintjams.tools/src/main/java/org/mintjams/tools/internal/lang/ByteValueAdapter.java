@@ -22,14 +22,12 @@
 
 package org.mintjams.tools.internal.lang;
 
-import java.lang.reflect.ParameterizedType;
-import java.math.BigDecimal;
 import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class ByteValueAdapter extends AbstractValueAdapter<Byte> {
@@ -44,6 +42,11 @@ public class ByteValueAdapter extends AbstractValueAdapter<Byte> {
 
 	@Override
 	public Byte adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public Byte tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -53,6 +56,11 @@ public class ByteValueAdapter extends AbstractValueAdapter<Byte> {
 			}
 		}
 
+		ValueConverter<Object, Byte> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		Byte byteValue = Adaptables.getAdapter(value, Byte.class);
 		if (byteValue != null) {
 			return byteValue;
@@ -63,14 +71,12 @@ public class ByteValueAdapter extends AbstractValueAdapter<Byte> {
 			return numberValue.byteValue();
 		}
 
-		try {
-			String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).adapt(value);
-			return new BigDecimal(stringValue).byteValue();
-		} catch (UnadaptableValueException ignore) {}
+		String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).tryAdapt(value);
+		if (stringValue != null) {
+			return Numbers.parseByte(stringValue);
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
@@ -22,13 +22,12 @@
 
 package org.mintjams.tools.internal.lang;
 
-import java.lang.reflect.ParameterizedType;
 import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class CharacterValueAdapter extends AbstractValueAdapter<Character> {
@@ -43,6 +42,11 @@ public class CharacterValueAdapter extends AbstractValueAdapter<Character> {
 
 	@Override
 	public Character adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public Character tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -52,21 +56,24 @@ public class CharacterValueAdapter extends AbstractValueAdapter<Character> {
 			}
 		}
 
+		ValueConverter<Object, Character> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		Character characterValue = Adaptables.getAdapter(value, Character.class);
 		if (characterValue != null) {
 			return characterValue;
 		}
 
-		try {
-			String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).adapt(value);
+		String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).tryAdapt(value);
+		if (stringValue != null) {
 			if (stringValue.length() > 0) {
 				return stringValue.toCharArray()[0];
 			}
-		} catch (UnadaptableValueException ignore) {}
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
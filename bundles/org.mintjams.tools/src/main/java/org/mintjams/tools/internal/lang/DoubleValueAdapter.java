@@ -22,14 +22,12 @@
 
 package org.mintjams.tools.internal.lang;
 
-import java.lang.reflect.ParameterizedType;
-import java.math.BigDecimal;
 import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class DoubleValueAdapter extends AbstractValueAdapter<Double> {
@@ -44,6 +42,11 @@ public class DoubleValueAdapter extends AbstractValueAdapter<Double> {
 
 	@Override
 	public Double adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public Double tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -53,6 +56,11 @@ public class DoubleValueAdapter extends AbstractValueAdapter<Double> {
 			}
 		}
 
+		ValueConverter<Object, Double> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		Double doubleValue = Adaptables.getAdapter(value, Double.class);
 		if (doubleValue != null) {
 			return doubleValue;
@@ -63,14 +71,12 @@ public class DoubleValueAdapter extends AbstractValueAdapter<Double> {
 			return numberValue.doubleValue();
 		}
 
-		try {
-			String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).adapt(value);
-			return new BigDecimal(stringValue).doubleValue();
-		} catch (UnadaptableValueException ignore) {}
+		String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).tryAdapt(value);
+		if (stringValue != null) {
+			return Numbers.parseDouble(stringValue);
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
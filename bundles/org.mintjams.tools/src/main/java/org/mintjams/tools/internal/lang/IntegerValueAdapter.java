@@ -22,14 +22,12 @@
 
 package org.mintjams.tools.internal.lang;
 
-import java.lang.reflect.ParameterizedType;
-import java.math.BigDecimal;
 import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class IntegerValueAdapter extends AbstractValueAdapter<Integer> {
@@ -44,6 +42,11 @@ public class IntegerValueAdapter extends AbstractValueAdapter<Integer> {
 
 	@Override
 	public Integer adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public Integer tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -53,6 +56,11 @@ public class IntegerValueAdapter extends AbstractValueAdapter<Integer> {
 			}
 		}
 
+		ValueConverter<Object, Integer> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		Integer integerValue = Adaptables.getAdapter(value, Integer.class);
 		if (integerValue != null) {
 			return integerValue;
@@ -63,14 +71,12 @@ public class IntegerValueAdapter extends AbstractValueAdapter<Integer> {
 			return numberValue.intValue();
 		}
 
-		try {
-			String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).adapt(value);
-			return new BigDecimal(stringValue).intValue();
-		} catch (UnadaptableValueException ignore) {}
+		String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).tryAdapt(value);
+		if (stringValue != null) {
+			return Numbers.parseInt(stringValue);
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
@@ -22,8 +22,6 @@
 
 package org.mintjams.tools.internal.lang;
 
-import java.lang.reflect.ParameterizedType;
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -34,8 +32,8 @@ import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.internal.util.Dates;
 import org.mintjams.tools.lang.Strings;
 
@@ -51,6 +49,11 @@ public class LongValueAdapter extends AbstractValueAdapter<Long> {
 
 	@Override
 	public Long adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public Long tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -60,6 +63,11 @@ public class LongValueAdapter extends AbstractValueAdapter<Long> {
 			}
 		}
 
+		ValueConverter<Object, Long> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		Long longValue = Adaptables.getAdapter(value, Long.class);
 		if (longValue != null) {
 			return longValue;
@@ -79,14 +87,12 @@ public class LongValueAdapter extends AbstractValueAdapter<Long> {
 			return asDate((Temporal) value).getTime();
 		}
 
-		try {
-			String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).adapt(value);
-			return new BigDecimal(stringValue).longValue();
-		} catch (UnadaptableValueException ignore) {}
+		String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).tryAdapt(value);
+		if (stringValue != null) {
+			return Numbers.parseLong(stringValue);
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 	private java.util.Date asDate(Temporal value) {
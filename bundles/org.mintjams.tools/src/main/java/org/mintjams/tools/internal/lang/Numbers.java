@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.internal.lang;
+
+import java.math.BigDecimal;
+
+public class Numbers {
+
+	private static final int MAX_LONG_DIGITS = 18;
+
+	private Numbers() {}
+
+	public static long parseLong(CharSequence value) {
+		int length = value.length();
+		int i = 0;
+		boolean negative = false;
+		if (length > 0) {
+			char c = value.charAt(0);
+			if (c == '-' || c == '+') {
+				negative = (c == '-');
+				i++;
+			}
+		}
+
+		int start = i;
+		long result = 0;
+		for (; i < length; i++) {
+			char c = value.charAt(i);
+			if (!isDigit(c)) {
+				break;
+			}
+			if (i - start == MAX_LONG_DIGITS) {
+				return new BigDecimal(value.toString()).longValue();
+			}
+			result = result * 10 + (c - '0');
+		}
+
+		int end = skipFraction(value, i);
+		if (end != length || (i == start && end - i < 2)) {
+			return new BigDecimal(value.toString()).longValue();
+		}
+
+		return negative ? -result : result;
+	}
+
+	public static int parseInt(CharSequence value) {
+		return (int) parseLong(value);
+	}
+
+	public static short parseShort(CharSequence value) {
+		return (short) parseLong(value);
+	}
+
+	public static byte parseByte(CharSequence value) {
+		return (byte) parseLong(value);
+	}
+
+	public static double parseDouble(CharSequence value) {
+		if (!isPlainDecimal(value)) {
+			return new BigDecimal(value.toString()).doubleValue();
+		}
+		if (isZero(value)) {
+			return 0d;
+		}
+		return Double.parseDouble(value.toString());
+	}
+
+	public static float parseFloat(CharSequence value) {
+		if (!isPlainDecimal(value)) {
+			return new BigDecimal(value.toString()).floatValue();
+		}
+		if (isZero(value)) {
+			return 0f;
+		}
+		return Float.parseFloat(value.toString());
+	}
+
+	public static String toString(double value) {
+		String s = Double.toString(value);
+		if (isPlainString(s)) {
+			return s;
+		}
+		return new BigDecimal(s).toPlainString();
+	}
+
+	public static String toString(float value) {
+		String s = Float.toString(value);
+		if (isPlainString(s)) {
+			return s;
+		}
+		return new BigDecimal(s).toPlainString();
+	}
+
+	private static boolean isPlainString(String value) {
+		return value.indexOf('E') == -1 && !value.equals("-0.0") && isPlainDecimal(value);
+	}
+
+	private static boolean isPlainDecimal(CharSequence value) {
+		int length = value.length();
+		int i = 0;
+		if (length > 0) {
+			char c = value.charAt(0);
+			if (c == '-' || c == '+') {
+				i++;
+			}
+		}
+
+		int start = i;
+		while (i < length && isDigit(value.charAt(i))) {
+			i++;
+		}
+
+		int end = skipFraction(value, i);
+		return end == length && !(i == start && end - i < 2);
+	}
+
+	private static int skipFraction(CharSequence value, int i) {
+		int length = value.length();
+		if (i == length || value.charAt(i) != '.') {
+			return i;
+		}
+
+		for (i++; i < length; i++) {
+			if (!isDigit(value.charAt(i))) {
+				break;
+			}
+		}
+		return i;
+	}
+
+	private static boolean isZero(CharSequence value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c >= '1' && c <= '9') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+}
@@ -29,6 +29,7 @@ import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class ObjectArrayValueAdapter extends AbstractValueAdapter<Object[]> {
@@ -43,6 +44,11 @@ public class ObjectArrayValueAdapter extends AbstractValueAdapter<Object[]> {
 
 	@Override
 	public Object[] adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public Object[] tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -52,6 +58,11 @@ public class ObjectArrayValueAdapter extends AbstractValueAdapter<Object[]> {
 			}
 		}
 
+		ValueConverter<Object, Object[]> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		if (value.getClass().isArray()) {
 			return (Object[]) value;
 		}
@@ -22,14 +22,12 @@
 
 package org.mintjams.tools.internal.lang;
 
-import java.lang.reflect.ParameterizedType;
-import java.math.BigDecimal;
 import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class ShortValueAdapter extends AbstractValueAdapter<Short> {
@@ -44,6 +42,11 @@ public class ShortValueAdapter extends AbstractValueAdapter<Short> {
 
 	@Override
 	public Short adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public Short tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -53,6 +56,11 @@ public class ShortValueAdapter extends AbstractValueAdapter<Short> {
 			}
 		}
 
+		ValueConverter<Object, Short> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		Short shortValue = Adaptables.getAdapter(value, Short.class);
 		if (shortValue != null) {
 			return shortValue;
@@ -63,14 +71,12 @@ public class ShortValueAdapter extends AbstractValueAdapter<Short> {
 			return numberValue.shortValue();
 		}
 
-		try {
-			String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).adapt(value);
-			return new BigDecimal(stringValue).shortValue();
-		} catch (UnadaptableValueException ignore) {}
+		String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).tryAdapt(value);
+		if (stringValue != null) {
+			return Numbers.parseShort(stringValue);
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
@@ -22,10 +22,8 @@
 
 package org.mintjams.tools.internal.lang;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
-import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
@@ -42,9 +40,10 @@ import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.internal.util.Dates;
+import org.mintjams.tools.lang.Strings;
 
 public class StringValueAdapter extends AbstractValueAdapter<String> {
 
@@ -58,23 +57,33 @@ public class StringValueAdapter extends AbstractValueAdapter<String> {
 
 	@Override
 	public String adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public String tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
 
+		ValueConverter<Object, String> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		String stringValue = Adaptables.getAdapter(value, String.class);
 		if (stringValue != null) {
 			return stringValue;
 		}
 
-		try {
-			Reader reader = ValueAdapters.createValueAdapter(fEnv, Reader.class).adapt(value);
+		Reader reader = ValueAdapters.createValueAdapter(fEnv, Reader.class).tryAdapt(value);
+		if (reader != null) {
 			try {
 				return asString(reader);
 			} catch (IOException ex) {
 				throw (IllegalArgumentException) new IllegalArgumentException(ex.getMessage()).initCause(ex);
 			}
-		} catch (UnadaptableValueException ignore) {}
+		}
 
 		if (value instanceof Calendar) {
 			return formatDateTime(((Calendar) value).getTime());
@@ -108,26 +117,7 @@ public class StringValueAdapter extends AbstractValueAdapter<String> {
 	}
 
 	private String asString(Reader reader) throws IOException {
-		try (Reader in = asBufferedReader(reader)) {
-			StringWriter out = new StringWriter();
-			char[] buffer = new char[8192];
-			for (;;) {
-				int n = in.read(buffer);
-				if (n == -1) {
-					break;
-				}
-				out.write(buffer, 0, n);
-			}
-			return out.toString();
-		}
-	}
-
-	private BufferedReader asBufferedReader(Reader reader) {
-		if (reader instanceof BufferedReader) {
-			return (BufferedReader) reader;
-		}
-
-		return new BufferedReader(reader);
+		return Strings.readAll(reader);
 	}
 
 	private String formatDateTime(java.util.Date value) {
@@ -176,14 +166,14 @@ public class StringValueAdapter extends AbstractValueAdapter<String> {
 		}
 
 		if (value instanceof Float) {
-			return new BigDecimal("" + value.floatValue()).toPlainString();
+			return Numbers.toString(value.floatValue());
 		}
 
 		if (value instanceof Double) {
-			return new BigDecimal("" + value.doubleValue()).toPlainString();
+			return Numbers.toString(value.doubleValue());
 		}
 
-		return BigDecimal.valueOf(value.longValue()).toPlainString();
+		return Long.toString(value.longValue());
 	}
 
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.internal.mail;
+
+import javax.mail.Folder;
+import javax.mail.Message;
+import javax.mail.MessagingException;
+
+import com.sun.mail.imap.IMAPFolder;
+import com.sun.mail.imap.IMAPStore;
+import com.sun.mail.imap.ResyncData;
+
+public class CondStore {
+
+	private CondStore() {}
+
+	public static boolean isSupported(Folder folder) {
+		try {
+			if (!(folder instanceof IMAPFolder) || !(folder.getStore() instanceof IMAPStore)) {
+				return false;
+			}
+			return ((IMAPStore) folder.getStore()).hasCapability("CONDSTORE");
+		} catch (NoClassDefFoundError | MessagingException ex) {
+			return false;
+		}
+	}
+
+	public static void open(Folder folder, int mode) throws MessagingException {
+		((IMAPFolder) folder).open(mode, ResyncData.CONDSTORE);
+	}
+
+	public static long getHighestModSeq(Folder folder) throws MessagingException {
+		return ((IMAPFolder) folder).getHighestModSeq();
+	}
+
+	public static Message[] getMessagesChangedSince(Folder folder, long lastUID, long modSeq) throws MessagingException {
+		return ((IMAPFolder) folder).getMessagesByUIDChangedSince(1, lastUID, modSeq);
+	}
+
+}
@@ -23,24 +23,45 @@
 package org.mintjams.tools.internal.mail;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Objects;
 
 import javax.activation.DataSource;
 
+import org.mintjams.tools.io.BufferPool;
+import org.mintjams.tools.io.ByteArrayBuilder;
+import org.mintjams.tools.io.IOs;
+
 public class InputStreamDataSource implements DataSource, Closeable {
 
+	public static final int DEFAULT_MEMORY_THRESHOLD = 1 << 20;
+
 	private final Cache fCache;
 	private final String fFilename;
 	private final String fContentType;
 
 	public InputStreamDataSource(InputStream stream, String filename, String contentType) throws IOException {
-		this.fCache = new Cache(stream);
+		this(stream, filename, contentType, DEFAULT_MEMORY_THRESHOLD);
+	}
+
+	public InputStreamDataSource(InputStream stream, String filename, String contentType, int memoryThreshold) throws IOException {
+		if (memoryThreshold < 0) {
+			throw new IllegalArgumentException("Invalid memory threshold: " + memoryThreshold);
+		}
+
+		this.fCache = new Cache(stream, memoryThreshold);
+		this.fFilename = filename;
+		this.fContentType = contentType;
+	}
+
+	public InputStreamDataSource(byte[] content, String filename, String contentType) {
+		this.fCache = new Cache(content);
 		this.fFilename = filename;
 		this.fContentType = contentType;
 	}
@@ -73,31 +94,70 @@ public class InputStreamDataSource implements DataSource, Closeable {
 	}
 
 	private class Cache implements Closeable {
+		private final byte[] fContent;
 		private final Path fPath;
 
-		private Cache(InputStream in) throws IOException {
-			fPath = Files.createTempFile("data-", null);
+		private Cache(byte[] content) {
+			fContent = Objects.requireNonNull(content).clone();
+			fPath = null;
+		}
 
-			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(fPath))) {
-				try (in) {
-					byte[] buffer = new byte[8192];
+		private Cache(InputStream in, int memoryThreshold) throws IOException {
+			try (in) {
+				ByteArrayBuilder content = new ByteArrayBuilder(Math.min(Math.max(in.available(), 0), memoryThreshold));
+				boolean complete = false;
+				BufferPool pool = IOs.getBufferPool();
+				byte[] buffer = pool.acquireByteArray();
+				try {
 					for (;;) {
-						int length = in.read(buffer);
+						int length = in.read(buffer, 0, (int) Math.min(buffer.length, (long) memoryThreshold - content.size() + 1));
 						if (length == -1) {
+							complete = true;
+							break;
+						}
+						content.write(buffer, 0, length);
+						if (content.size() > memoryThreshold) {
 							break;
 						}
-						out.write(buffer, 0, length);
 					}
+				} finally {
+					pool.release(buffer);
+				}
+
+				if (complete) {
+					fContent = content.toByteArray();
+					fPath = null;
+					return;
 				}
+
+				Path path = Files.createTempFile("data-", null);
+				try (OutputStream out = Files.newOutputStream(path)) {
+					content.writeTo(out);
+					IOs.copy(in, out);
+				} catch (Throwable ex) {
+					try {
+						Files.deleteIfExists(path);
+					} catch (Throwable ignore) {}
+					throw ex;
+				}
+				fContent = null;
+				fPath = path;
 			}
 		}
 
 		public InputStream getInputStream() throws IOException {
+			if (fContent != null) {
+				return new ByteArrayInputStream(fContent);
+			}
 			return new BufferedInputStream(Files.newInputStream(fPath));
 		}
 
 		@Override
 		public void close() throws IOException {
+			if (fPath == null) {
+				return;
+			}
+
 			try {
 				Files.deleteIfExists(fPath);
 			} catch (Throwable ignore) {}
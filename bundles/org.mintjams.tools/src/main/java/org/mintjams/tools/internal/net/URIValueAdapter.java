@@ -23,7 +23,6 @@
 package org.mintjams.tools.internal.net;
 
 import java.io.File;
-import java.lang.reflect.ParameterizedType;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
@@ -31,8 +30,8 @@ import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class URIValueAdapter extends AbstractValueAdapter<URI> {
@@ -47,6 +46,11 @@ public class URIValueAdapter extends AbstractValueAdapter<URI> {
 
 	@Override
 	public URI adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public URI tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -56,6 +60,11 @@ public class URIValueAdapter extends AbstractValueAdapter<URI> {
 			}
 		}
 
+		ValueConverter<Object, URI> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		URI uriValue = Adaptables.getAdapter(value, URI.class);
 		if (uriValue != null) {
 			return uriValue;
@@ -71,16 +80,14 @@ public class URIValueAdapter extends AbstractValueAdapter<URI> {
 			return pathValue.toUri();
 		}
 
-		try {
-			String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).adapt(value);
+		String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).tryAdapt(value);
+		if (stringValue != null) {
 			try {
 				return new URI(stringValue);
 			} catch (URISyntaxException ignore) {}
-		} catch (UnadaptableValueException ignore) {}
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
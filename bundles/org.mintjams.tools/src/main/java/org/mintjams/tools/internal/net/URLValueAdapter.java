@@ -23,7 +23,6 @@
 package org.mintjams.tools.internal.net;
 
 import java.io.File;
-import java.lang.reflect.ParameterizedType;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
@@ -31,8 +30,8 @@ import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class URLValueAdapter extends AbstractValueAdapter<URL> {
@@ -47,6 +46,11 @@ public class URLValueAdapter extends AbstractValueAdapter<URL> {
 
 	@Override
 	public URL adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public URL tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -56,6 +60,11 @@ public class URLValueAdapter extends AbstractValueAdapter<URL> {
 			}
 		}
 
+		ValueConverter<Object, URL> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		URL urlValue = Adaptables.getAdapter(value, URL.class);
 		if (urlValue != null) {
 			return urlValue;
@@ -75,16 +84,14 @@ public class URLValueAdapter extends AbstractValueAdapter<URL> {
 			} catch (MalformedURLException ignore) {}
 		}
 
-		try {
-			String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).adapt(value);
+		String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).tryAdapt(value);
+		if (stringValue != null) {
 			try {
 				return new URL(stringValue);
 			} catch (MalformedURLException ignore) {}
-		} catch (UnadaptableValueException ignore) {}
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
@@ -22,13 +22,12 @@
 
 package org.mintjams.tools.internal.sql;
 
-import java.lang.reflect.ParameterizedType;
 import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class DateValueAdapter extends AbstractValueAdapter<java.sql.Date> {
@@ -43,6 +42,11 @@ public class DateValueAdapter extends AbstractValueAdapter<java.sql.Date> {
 
 	@Override
 	public java.sql.Date adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public java.sql.Date tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -52,19 +56,22 @@ public class DateValueAdapter extends AbstractValueAdapter<java.sql.Date> {
 			}
 		}
 
+		ValueConverter<Object, java.sql.Date> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		java.sql.Date sqlDateValue = Adaptables.getAdapter(value, java.sql.Date.class);
 		if (sqlDateValue != null) {
 			return sqlDateValue;
 		}
 
-		try {
-			java.util.Date dateValue = ValueAdapters.createValueAdapter(fEnv, java.util.Date.class).adapt(value);
+		java.util.Date dateValue = ValueAdapters.createValueAdapter(fEnv, java.util.Date.class).tryAdapt(value);
+		if (dateValue != null) {
 			return new java.sql.Date(dateValue.getTime());
-		} catch (UnadaptableValueException ignore) {}
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
@@ -37,19 +37,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.mintjams.tools.adapter.ValueAdapter;
-import org.mintjams.tools.adapter.ValueAdapters;
-import org.mintjams.tools.internal.io.InputStreamValueAdapter;
-import org.mintjams.tools.internal.io.ReaderValueAdapter;
-import org.mintjams.tools.internal.lang.BigDecimalValueAdapter;
-import org.mintjams.tools.internal.lang.BooleanValueAdapter;
-import org.mintjams.tools.internal.lang.ByteValueAdapter;
-import org.mintjams.tools.internal.lang.DoubleValueAdapter;
-import org.mintjams.tools.internal.lang.FloatValueAdapter;
-import org.mintjams.tools.internal.lang.IntegerValueAdapter;
-import org.mintjams.tools.internal.lang.LongValueAdapter;
-import org.mintjams.tools.internal.lang.ObjectArrayValueAdapter;
-import org.mintjams.tools.internal.lang.ShortValueAdapter;
-import org.mintjams.tools.internal.lang.StringValueAdapter;
+import org.mintjams.tools.adapter.ValueAdapterRegistry;
 import org.mintjams.tools.sql.ParameterHandler;
 
 public class DefaultParameterHandler implements ParameterHandler {
@@ -89,7 +77,15 @@ public class DefaultParameterHandler implements ParameterHandler {
 		throw new IllegalArgumentException("Type:" + type + " is not a valid java.sql.Types value.");
 	}
 
+	private static <ValueType> ValueType adapt(ParameterContext context, Class<ValueType> valueType) {
+		return ValueAdapterRegistry.getDefault().getValueAdapter(createEnv(context), valueType).adapt(context.getValue());
+	}
+
 	private static Map<String, Object> createEnv(ParameterContext context) {
+		if (context.getOptions().isEmpty()) {
+			return ValueAdapterRegistry.getDefault().createEnvironment(null);
+		}
+
 		Map<String, Object> env = new HashMap<>();
 
 		String encoding = context.getOptions().get(ValueAdapter.ENV_ENCODING);
@@ -107,9 +103,7 @@ public class DefaultParameterHandler implements ParameterHandler {
 			env.put(ValueAdapter.ENV_DISPLAYZONEID, displayZoneIdString);
 		}
 
-		env.put(ValueAdapter.ENV_VALUEADAPTERS, ValueAdapters.createValueAdapterMap());
-
-		return env;
+		return ValueAdapterRegistry.getDefault().createEnvironment(env);
 	}
 
 	private enum Handler {
@@ -127,7 +121,7 @@ public class DefaultParameterHandler implements ParameterHandler {
 		TINYINT(Types.TINYINT) {
 			@Override
 			public void setParameter(ParameterContext context) throws SQLException {
-				Byte value = new ByteValueAdapter(createEnv(context)).adapt(context.getValue());
+				Byte value = adapt(context, Byte.class);
 				if (value == null) {
 					context.getStatement().setNull(context.getIndex(), context.getType());
 					return;
@@ -143,7 +137,7 @@ public class DefaultParameterHandler implements ParameterHandler {
 		SMALLINT(Types.SMALLINT) {
 			@Override
 			public void setParameter(ParameterContext context) throws SQLException {
-				Short value = new ShortValueAdapter(createEnv(context)).adapt(context.getValue());
+				Short value = adapt(context, Short.class);
 				if (value == null) {
 					context.getStatement().setNull(context.getIndex(), context.getType());
 					return;
@@ -159,7 +153,7 @@ public class DefaultParameterHandler implements ParameterHandler {
 		INTEGER(Types.INTEGER) {
 			@Override
 			public void setParameter(ParameterContext context) throws SQLException {
-				Integer value = new IntegerValueAdapter(createEnv(context)).adapt(context.getValue());
+				Integer value = adapt(context, Integer.class);
 				if (value == null) {
 					context.getStatement().setNull(context.getIndex(), context.getType());
 					return;
@@ -175,7 +169,7 @@ public class DefaultParameterHandler implements ParameterHandler {
 		BIGINT(Types.BIGINT) {
 			@Override
 			public void setParameter(ParameterContext context) throws SQLException {
-				Long value = new LongValueAdapter(createEnv(context)).adapt(context.getValue());
+				Long value = adapt(context, Long.class);
 				if (value == null) {
 					context.getStatement().setNull(context.getIndex(), context.getType());
 					return;
@@ -191,7 +185,7 @@ public class DefaultParameterHandler implements ParameterHandler {
 		FLOAT(Types.FLOAT) {
 			@Override
 			public void setParameter(ParameterContext context) throws SQLException {
-				Float value = new FloatValueAdapter(createEnv(context)).adapt(context.getValue());
+				Float value = adapt(context, Float.class);
 				if (value == null) {
 					context.getStatement().setNull(context.getIndex(), context.getType());
 					return;
@@ -218,7 +212,7 @@ public class DefaultParameterHandler implements ParameterHandler {
 		DOUBLE(Types.DOUBLE) {
 			@Override
 			public void setParameter(ParameterContext context) throws SQLException {
-				Double value = new DoubleValueAdapter(createEnv(context)).adapt(context.getValue());
+				Double value = adapt(context, Double.class);
 				if (value == null) {
 					context.getStatement().setNull(context.getIndex(), context.getType());
 					return;
@@ -245,7 +239,7 @@ public class DefaultParameterHandler implements ParameterHandler {
 		DECIMAL(Types.DECIMAL) {
 			@Override
 			public void setParameter(ParameterContext context) throws SQLException {
-				BigDecimal value = new BigDecimalValueAdapter(createEnv(context)).adapt(context.getValue());
+				BigDecimal value = adapt(context, BigDecimal.class);
 				if (value == null) {
 					context.getStatement().setNull(context.getIndex(), context.getType());
 					return;
@@ -261,7 +255,7 @@ public class DefaultParameterHandler implements ParameterHandler {
 		CHAR(Types.CHAR) {
 			@Override
 			public void setParameter(ParameterContext context) throws SQLException {
-				String value = new StringValueAdapter(createEnv(context)).adapt(context.getValue());
+				String value = adapt(context, String.class);
 				if (value == null) {
 					context.getStatement().setNull(context.getIndex(), context.getType());
 					return;
@@ -288,7 +282,7 @@ public class DefaultParameterHandler implements ParameterHandler {
 		LONGVARCHAR(Types.LONGVARCHAR) {
 			@Override
 			public void setParameter(ParameterContext context) throws SQLException {
-				Reader value = new ReaderValueAdapter(createEnv(context)).adapt(context.getValue());
+				Reader value = adapt(context, Reader.class);
 				if (value == null) {
 					context.getStatement().setNull(context.getIndex(), context.getType());
 					return;
@@ -309,7 +303,7 @@ public class DefaultParameterHandler implements ParameterHandler {
 		DATE(Types.DATE) {
 			@Override
 			public void setParameter(ParameterContext context) throws SQLException {
-				java.sql.Date value = new org.mintjams.tools.internal.sql.DateValueAdapter(createEnv(context)).adapt(context.getValue());
+				java.sql.Date value = adapt(context, java.sql.Date.class);
 				if (value == null) {
 					context.getStatement().setNull(context.getIndex(), context.getType());
 					return;
@@ -325,7 +319,7 @@ public class DefaultParameterHandler implements ParameterHandler {
 		TIME(Types.TIME) {
 			@Override
 			public void setParameter(ParameterContext context) throws SQLException {
-				Time value = new TimeValueAdapter(createEnv(context)).adapt(context.getValue());
+				Time value = adapt(context, Time.class);
 				if (value == null) {
 					context.getStatement().setNull(context.getIndex(), context.getType());
 					return;
@@ -341,7 +335,7 @@ public class DefaultParameterHandler implements ParameterHandler {
 		TIMESTAMP(Types.TIMESTAMP) {
 			@Override
 			public void setParameter(ParameterContext context) throws SQLException {
-				Timestamp value = new TimestampValueAdapter(createEnv(context)).adapt(context.getValue());
+				Timestamp value = adapt(context, Timestamp.class);
 				if (value == null) {
 					context.getStatement().setNull(context.getIndex(), context.getType());
 					return;
@@ -357,7 +351,7 @@ public class DefaultParameterHandler implements ParameterHandler {
 		BINARY(Types.BINARY) {
 			@Override
 			public void setParameter(ParameterContext context) throws SQLException {
-				InputStream value = new InputStreamValueAdapter(createEnv(context)).adapt(context.getValue());
+				InputStream value = adapt(context, InputStream.class);
 				if (value == null) {
 					context.getStatement().setNull(context.getIndex(), context.getType());
 					return;
@@ -456,7 +450,7 @@ public class DefaultParameterHandler implements ParameterHandler {
 		ARRAY(Types.ARRAY) {
 			@Override
 			public void setParameter(ParameterContext context) throws SQLException {
-				Object[] value = new ObjectArrayValueAdapter(createEnv(context)).adapt(context.getValue());
+				Object[] value = adapt(context, Object[].class);
 				if (value == null) {
 					context.getStatement().setNull(context.getIndex(), context.getType());
 					return;
@@ -540,7 +534,7 @@ public class DefaultParameterHandler implements ParameterHandler {
 		BOOLEAN(Types.BOOLEAN) {
 			@Override
 			public void setParameter(ParameterContext context) throws SQLException {
-				Boolean value = new BooleanValueAdapter(createEnv(context)).adapt(context.getValue());
+				Boolean value = adapt(context, Boolean.class);
 				if (value == null) {
 					context.getStatement().setNull(context.getIndex(), context.getType());
 					return;
@@ -22,14 +22,13 @@
 
 package org.mintjams.tools.internal.sql;
 
-import java.lang.reflect.ParameterizedType;
 import java.sql.Time;
 import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class TimeValueAdapter extends AbstractValueAdapter<java.sql.Time> {
@@ -44,6 +43,11 @@ public class TimeValueAdapter extends AbstractValueAdapter<java.sql.Time> {
 
 	@Override
 	public java.sql.Time adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public java.sql.Time tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -53,19 +57,22 @@ public class TimeValueAdapter extends AbstractValueAdapter<java.sql.Time> {
 			}
 		}
 
+		ValueConverter<Object, java.sql.Time> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		Time timeValue = Adaptables.getAdapter(value, Time.class);
 		if (timeValue != null) {
 			return timeValue;
 		}
 
-		try {
-			java.util.Date dateValue = ValueAdapters.createValueAdapter(fEnv, java.util.Date.class).adapt(value);
+		java.util.Date dateValue = ValueAdapters.createValueAdapter(fEnv, java.util.Date.class).tryAdapt(value);
+		if (dateValue != null) {
 			return new java.sql.Time(dateValue.getTime());
-		} catch (UnadaptableValueException ignore) {}
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
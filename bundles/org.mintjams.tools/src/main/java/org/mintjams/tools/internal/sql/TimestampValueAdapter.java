@@ -22,14 +22,13 @@
 
 package org.mintjams.tools.internal.sql;
 
-import java.lang.reflect.ParameterizedType;
 import java.sql.Timestamp;
 import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class TimestampValueAdapter extends AbstractValueAdapter<java.sql.Timestamp> {
@@ -44,6 +43,11 @@ public class TimestampValueAdapter extends AbstractValueAdapter<java.sql.Timesta
 
 	@Override
 	public java.sql.Timestamp adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public java.sql.Timestamp tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -53,19 +57,22 @@ public class TimestampValueAdapter extends AbstractValueAdapter<java.sql.Timesta
 			}
 		}
 
+		ValueConverter<Object, java.sql.Timestamp> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		Timestamp timestampValue = Adaptables.getAdapter(value, Timestamp.class);
 		if (timestampValue != null) {
 			return timestampValue;
 		}
 
-		try {
-			java.util.Date dateValue = ValueAdapters.createValueAdapter(fEnv, java.util.Date.class).adapt(value);
+		java.util.Date dateValue = ValueAdapters.createValueAdapter(fEnv, java.util.Date.class).tryAdapt(value);
+		if (dateValue != null) {
 			return new java.sql.Timestamp(dateValue.getTime());
-		} catch (UnadaptableValueException ignore) {}
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
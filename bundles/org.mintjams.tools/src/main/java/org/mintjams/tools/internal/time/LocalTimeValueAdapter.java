@@ -22,15 +22,14 @@
 
 package org.mintjams.tools.internal.time;
 
-import java.lang.reflect.ParameterizedType;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class LocalTimeValueAdapter extends AbstractValueAdapter<LocalTime> {
@@ -45,6 +44,11 @@ public class LocalTimeValueAdapter extends AbstractValueAdapter<LocalTime> {
 
 	@Override
 	public LocalTime adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public LocalTime tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -54,19 +58,22 @@ public class LocalTimeValueAdapter extends AbstractValueAdapter<LocalTime> {
 			}
 		}
 
+		ValueConverter<Object, LocalTime> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		LocalTime localTimeValue = Adaptables.getAdapter(value, LocalTime.class);
 		if (localTimeValue != null) {
 			return localTimeValue;
 		}
 
-		try {
-			java.util.Date dateValue = ValueAdapters.createValueAdapter(fEnv, java.util.Date.class).adapt(value);
+		java.util.Date dateValue = ValueAdapters.createValueAdapter(fEnv, java.util.Date.class).tryAdapt(value);
+		if (dateValue != null) {
 			return LocalDateTime.ofInstant(dateValue.toInstant(), getZoneId()).toLocalTime();
-		} catch (UnadaptableValueException ignore) {}
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
@@ -22,14 +22,13 @@
 
 package org.mintjams.tools.internal.time;
 
-import java.lang.reflect.ParameterizedType;
 import java.time.OffsetDateTime;
 import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class OffsetDateTimeValueAdapter extends AbstractValueAdapter<OffsetDateTime> {
@@ -44,6 +43,11 @@ public class OffsetDateTimeValueAdapter extends AbstractValueAdapter<OffsetDateT
 
 	@Override
 	public OffsetDateTime adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public OffsetDateTime tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -53,19 +57,22 @@ public class OffsetDateTimeValueAdapter extends AbstractValueAdapter<OffsetDateT
 			}
 		}
 
+		ValueConverter<Object, OffsetDateTime> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		OffsetDateTime offsetDateTimeValue = Adaptables.getAdapter(value, OffsetDateTime.class);
 		if (offsetDateTimeValue != null) {
 			return offsetDateTimeValue;
 		}
 
-		try {
-			java.util.Date dateValue = ValueAdapters.createValueAdapter(fEnv, java.util.Date.class).adapt(value);
+		java.util.Date dateValue = ValueAdapters.createValueAdapter(fEnv, java.util.Date.class).tryAdapt(value);
+		if (dateValue != null) {
 			return OffsetDateTime.ofInstant(dateValue.toInstant(), getZoneId());
-		} catch (UnadaptableValueException ignore) {}
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
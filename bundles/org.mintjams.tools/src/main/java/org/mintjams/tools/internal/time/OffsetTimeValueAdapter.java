@@ -22,14 +22,13 @@
 
 package org.mintjams.tools.internal.time;
 
-import java.lang.reflect.ParameterizedType;
 import java.time.OffsetTime;
 import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class OffsetTimeValueAdapter extends AbstractValueAdapter<OffsetTime> {
@@ -44,6 +43,11 @@ public class OffsetTimeValueAdapter extends AbstractValueAdapter<OffsetTime> {
 
 	@Override
 	public OffsetTime adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public OffsetTime tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -53,19 +57,22 @@ public class OffsetTimeValueAdapter extends AbstractValueAdapter<OffsetTime> {
 			}
 		}
 
+		ValueConverter<Object, OffsetTime> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		OffsetTime offsetTimeValue = Adaptables.getAdapter(value, OffsetTime.class);
 		if (offsetTimeValue != null) {
 			return offsetTimeValue;
 		}
 
-		try {
-			java.util.Date dateValue = ValueAdapters.createValueAdapter(fEnv, java.util.Date.class).adapt(value);
+		java.util.Date dateValue = ValueAdapters.createValueAdapter(fEnv, java.util.Date.class).tryAdapt(value);
+		if (dateValue != null) {
 			return OffsetTime.ofInstant(dateValue.toInstant(), getZoneId());
-		} catch (UnadaptableValueException ignore) {}
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
@@ -22,13 +22,12 @@
 
 package org.mintjams.tools.internal.util;
 
-import java.lang.reflect.ParameterizedType;
 import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class CalendarValueAdapter extends AbstractValueAdapter<java.util.Calendar> {
@@ -43,6 +42,11 @@ public class CalendarValueAdapter extends AbstractValueAdapter<java.util.Calenda
 
 	@Override
 	public java.util.Calendar adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public java.util.Calendar tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -52,21 +56,24 @@ public class CalendarValueAdapter extends AbstractValueAdapter<java.util.Calenda
 			}
 		}
 
+		ValueConverter<Object, java.util.Calendar> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		java.util.Calendar calendarValue = Adaptables.getAdapter(value, java.util.Calendar.class);
 		if (calendarValue != null) {
 			return calendarValue;
 		}
 
-		try {
-			java.util.Date dateValue = ValueAdapters.createValueAdapter(fEnv, java.util.Date.class).adapt(value);
+		java.util.Date dateValue = ValueAdapters.createValueAdapter(fEnv, java.util.Date.class).tryAdapt(value);
+		if (dateValue != null) {
 			calendarValue = java.util.Calendar.getInstance();
 			calendarValue.setTime(dateValue);
 			return calendarValue;
-		} catch (UnadaptableValueException ignore) {}
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
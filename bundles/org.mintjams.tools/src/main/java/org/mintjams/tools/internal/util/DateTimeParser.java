@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.internal.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.function.Supplier;
+
+public class DateTimeParser {
+
+	private final String fValue;
+	private int fPosition;
+	private int fHour;
+	private int fMinute;
+	private int fSecond;
+	private int fNano;
+	private boolean fHasSeconds;
+
+	private DateTimeParser(String value) {
+		fValue = value;
+	}
+
+	public static java.util.Date parse(String value, Supplier<ZoneId> zoneId) {
+		if (value == null || value.isEmpty()) {
+			return null;
+		}
+
+		char c = value.charAt(0);
+		if (!Character.isDigit(c) && c != '+' && c != '-' && c > ' ') {
+			return null;
+		}
+
+		try {
+			java.util.Date dateValue = new DateTimeParser(value).parse(zoneId);
+			if (dateValue != null) {
+				return dateValue;
+			}
+		} catch (Throwable ignore) {}
+
+		return parseStrictly(value, zoneId);
+	}
+
+	private java.util.Date parse(Supplier<ZoneId> zoneId) {
+		int length = fValue.length();
+		if (length >= 10 && fValue.charAt(4) == '-' && fValue.charAt(7) == '-') {
+			int year = readDigits(4);
+			fPosition++;
+			int month = readDigits(2);
+			fPosition++;
+			int day = readDigits(2);
+			if (!isValidDate(year, month, day)) {
+				return null;
+			}
+
+			if (isEnd()) {
+				return Dates.asDate(LocalDate.of(year, month, day));
+			}
+
+			char separator = fValue.charAt(fPosition++);
+			if (separator == 'T' || separator == 't') {
+				if (!readTime()) {
+					return null;
+				}
+
+				LocalDateTime localDateTime = LocalDateTime.of(year, month, day, fHour, fMinute, fSecond, fNano);
+				if (isEnd()) {
+					return Dates.asDate(localDateTime, zoneId.get());
+				}
+
+				ZoneOffset offset = readOffset();
+				if (offset == null || !isEnd()) {
+					return null;
+				}
+
+				return Dates.asDate(OffsetDateTime.of(localDateTime, offset));
+			}
+
+			if (separator == ' ') {
+				if (!readTime() || !fHasSeconds || !isEnd()) {
+					return null;
+				}
+
+				return Dates.asDate(java.sql.Timestamp.valueOf(LocalDateTime.of(year, month, day, fHour, fMinute, fSecond, fNano)));
+			}
+
+			return null;
+		}
+
+		if (length >= 5 && fValue.charAt(2) == ':') {
+			if (!readTime()) {
+				return null;
+			}
+
+			LocalTime localTime = LocalTime.of(fHour, fMinute, fSecond, fNano);
+			if (isEnd()) {
+				return Dates.asDate(localTime, zoneId.get());
+			}
+
+			ZoneOffset offset = readOffset();
+			if (offset == null || !isEnd()) {
+				return null;
+			}
+
+			return Dates.asDate(OffsetTime.of(localTime, offset));
+		}
+
+		return null;
+	}
+
+	private boolean readTime() {
+		fHour = readDigits(2);
+		if (fHour < 0 || fHour > 23 || !read(':')) {
+			return false;
+		}
+
+		fMinute = readDigits(2);
+		if (fMinute < 0 || fMinute > 59) {
+			return false;
+		}
+
+		fSecond = 0;
+		fNano = 0;
+		fHasSeconds = false;
+		if (!read(':')) {
+			return true;
+		}
+
+		fSecond = readDigits(2);
+		if (fSecond < 0 || fSecond > 59) {
+			return false;
+		}
+		fHasSeconds = true;
+
+		if (!read('.')) {
+			return true;
+		}
+
+		int start = fPosition;
+		int nano = 0;
+		while (fPosition < fValue.length() && isDigit(fValue.charAt(fPosition))) {
+			if (fPosition - start == 9) {
+				return false;
+			}
+			nano = nano * 10 + (fValue.charAt(fPosition++) - '0');
+		}
+		int digits = fPosition - start;
+		if (digits == 0) {
+			return false;
+		}
+		for (int i = digits; i < 9; i++) {
+			nano *= 10;
+		}
+		fNano = nano;
+		return true;
+	}
+
+	private ZoneOffset readOffset() {
+		char c = fValue.charAt(fPosition++);
+		if (c == 'Z' || c == 'z') {
+			return ZoneOffset.UTC;
+		}
+
+		if (c != '+' && c != '-') {
+			return null;
+		}
+
+		int hours = readDigits(2);
+		if (hours < 0 || hours > 18 || !read(':')) {
+			return null;
+		}
+
+		int minutes = readDigits(2);
+		if (minutes < 0 || minutes > 59) {
+			return null;
+		}
+
+		if (c == '-') {
+			return ZoneOffset.ofHoursMinutes(-hours, -minutes);
+		}
+		return ZoneOffset.ofHoursMinutes(hours, minutes);
+	}
+
+	private int readDigits(int count) {
+		if (fPosition + count > fValue.length()) {
+			return -1;
+		}
+
+		int value = 0;
+		for (int i = 0; i < count; i++) {
+			char c = fValue.charAt(fPosition++);
+			if (!isDigit(c)) {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	private boolean read(char c) {
+		if (fPosition < fValue.length() && fValue.charAt(fPosition) == c) {
+			fPosition++;
+			return true;
+		}
+		return false;
+	}
+
+	private boolean isEnd() {
+		return fPosition == fValue.length();
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isValidDate(int year, int month, int day) {
+		if (year < 1 || month < 1 || month > 12 || day < 1) {
+			return false;
+		}
+
+		switch (month) {
+		case 2:
+			return day <= (((year % 4 == 0) && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28);
+		case 4:
+		case 6:
+		case 9:
+		case 11:
+			return day <= 30;
+		default:
+			return day <= 31;
+		}
+	}
+
+	private static java.util.Date parseStrictly(String value, Supplier<ZoneId> zoneId) {
+		int dash = value.indexOf('-', 1);
+		int colon = value.indexOf(':');
+		if (dash != -1 && (colon == -1 || dash < colon)) {
+			if (value.indexOf('T', dash) != -1 || value.indexOf('t', dash) != -1) {
+				try {
+					return Dates.asDate(OffsetDateTime.parse(value));
+				} catch (Throwable ignore) {}
+
+				try {
+					return Dates.asDate(ZonedDateTime.parse(value));
+				} catch (Throwable ignore) {}
+
+				try {
+					return Dates.asDate(LocalDateTime.parse(value), zoneId.get());
+				} catch (Throwable ignore) {}
+
+				return null;
+			}
+
+			if (colon != -1) {
+				try {
+					return Dates.asDate(java.sql.Timestamp.valueOf(value));
+				} catch (Throwable ignore) {}
+
+				return null;
+			}
+
+			try {
+				return Dates.asDate(LocalDate.parse(value));
+			} catch (Throwable ignore) {}
+
+			try {
+				return Dates.asDate(java.sql.Date.valueOf(value));
+			} catch (Throwable ignore) {}
+
+			return null;
+		}
+
+		if (colon == -1) {
+			return null;
+		}
+
+		try {
+			return Dates.asDate(OffsetTime.parse(value));
+		} catch (Throwable ignore) {}
+
+		try {
+			return Dates.asDate(LocalTime.parse(value), zoneId.get());
+		} catch (Throwable ignore) {}
+
+		try {
+			return Dates.asDate(java.sql.Time.valueOf(value));
+		} catch (Throwable ignore) {}
+
+		return null;
+	}
+
+}
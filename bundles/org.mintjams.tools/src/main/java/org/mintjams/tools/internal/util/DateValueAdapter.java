@@ -22,7 +22,6 @@
 
 package org.mintjams.tools.internal.util;
 
-import java.lang.reflect.ParameterizedType;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -34,8 +33,8 @@ import java.util.Map;
 
 import org.mintjams.tools.adapter.AbstractValueAdapter;
 import org.mintjams.tools.adapter.Adaptables;
-import org.mintjams.tools.adapter.UnadaptableValueException;
 import org.mintjams.tools.adapter.ValueAdapters;
+import org.mintjams.tools.adapter.ValueConverter;
 import org.mintjams.tools.lang.Strings;
 
 public class DateValueAdapter extends AbstractValueAdapter<java.util.Date> {
@@ -50,6 +49,11 @@ public class DateValueAdapter extends AbstractValueAdapter<java.util.Date> {
 
 	@Override
 	public java.util.Date adapt(Object value) {
+		return requireAdapted(value, tryAdapt(value));
+	}
+
+	@Override
+	public java.util.Date tryAdapt(Object value) {
 		if (value == null) {
 			return null;
 		}
@@ -59,6 +63,11 @@ public class DateValueAdapter extends AbstractValueAdapter<java.util.Date> {
 			}
 		}
 
+		ValueConverter<Object, java.util.Date> converter = getConverter(value);
+		if (converter != null) {
+			return converter.convert(value, fEnv);
+		}
+
 		java.sql.Timestamp sqlTimestampValue = Adaptables.getAdapter(value, java.sql.Timestamp.class);
 		if (sqlTimestampValue != null) {
 			return Dates.asDate(sqlTimestampValue);
@@ -126,48 +135,15 @@ public class DateValueAdapter extends AbstractValueAdapter<java.util.Date> {
 			return Dates.asDate(longValue.longValue());
 		}
 
-		try {
-			String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).adapt(value);
-			try {
-				return Dates.asDate(OffsetDateTime.parse(stringValue));
-			} catch (Throwable ignore) {}
-
-			try {
-				return Dates.asDate(ZonedDateTime.parse(stringValue));
-			} catch (Throwable ignore) {}
-
-			try {
-				return Dates.asDate(LocalDateTime.parse(stringValue), getZoneId());
-			} catch (Throwable ignore) {}
-
-			try {
-				return Dates.asDate(LocalDate.parse(stringValue));
-			} catch (Throwable ignore) {}
-
-			try {
-				return Dates.asDate(OffsetTime.parse(stringValue));
-			} catch (Throwable ignore) {}
-
-			try {
-				return Dates.asDate(LocalTime.parse(stringValue), getZoneId());
-			} catch (Throwable ignore) {}
-
-			try {
-				return Dates.asDate(java.sql.Timestamp.valueOf(stringValue));
-			} catch (Throwable ignore) {}
-
-			try {
-				return Dates.asDate(java.sql.Date.valueOf(stringValue));
-			} catch (Throwable ignore) {}
-
-			try {
-				return Dates.asDate(java.sql.Time.valueOf(stringValue));
-			} catch (Throwable ignore) {}
-		} catch (UnadaptableValueException ignore) {}
+		String stringValue = ValueAdapters.createValueAdapter(fEnv, String.class).tryAdapt(value);
+		if (stringValue != null) {
+			java.util.Date parsedValue = DateTimeParser.parse(stringValue, this::getZoneId);
+			if (parsedValue != null) {
+				return parsedValue;
+			}
+		}
 
-		throw new UnadaptableValueException("Value cannot adapt to type \""
-				+ ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0].getTypeName()
-				+ "\"");
+		return null;
 	}
 
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class BufferPool {
+
+	private static final BufferPool DEFAULT = new BufferPool(IOs.DEFAULT_BUFFER_SIZE);
+	private static final int SLOTS_PER_STRIPE = 4;
+
+	private final int fBufferSize;
+	private final int fStripeMask;
+	private final AtomicReferenceArray<byte[]> fByteArrays;
+	private final AtomicReferenceArray<char[]> fCharArrays;
+	private final AtomicReferenceArray<ByteBuffer> fDirectBuffers;
+	private final LongAdder fHits = new LongAdder();
+	private final LongAdder fMisses = new LongAdder();
+	private final LongAdder fDiscards = new LongAdder();
+
+	private BufferPool(int bufferSize) {
+		fBufferSize = bufferSize;
+		int stripes = Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors(), 1) * 2 - 1);
+		fStripeMask = stripes - 1;
+		fByteArrays = new AtomicReferenceArray<>(stripes * SLOTS_PER_STRIPE);
+		fCharArrays = new AtomicReferenceArray<>(stripes * SLOTS_PER_STRIPE);
+		fDirectBuffers = new AtomicReferenceArray<>(stripes * SLOTS_PER_STRIPE);
+	}
+
+	public static BufferPool getDefault() {
+		return DEFAULT;
+	}
+
+	public static BufferPool create(int bufferSize) {
+		if (bufferSize < 1) {
+			throw new IllegalArgumentException("Invalid buffer size: " + bufferSize);
+		}
+
+		return new BufferPool(bufferSize);
+	}
+
+	public int getBufferSize() {
+		return fBufferSize;
+	}
+
+	public byte[] acquireByteArray() {
+		byte[] buffer = poll(fByteArrays);
+		if (buffer == null) {
+			buffer = new byte[fBufferSize];
+		}
+		return buffer;
+	}
+
+	public void release(byte[] buffer) {
+		if (buffer == null) {
+			return;
+		}
+
+		if (buffer.length != fBufferSize) {
+			fDiscards.increment();
+			return;
+		}
+		offer(fByteArrays, buffer);
+	}
+
+	public char[] acquireCharArray() {
+		char[] buffer = poll(fCharArrays);
+		if (buffer == null) {
+			buffer = new char[fBufferSize];
+		}
+		return buffer;
+	}
+
+	public void release(char[] buffer) {
+		if (buffer == null) {
+			return;
+		}
+
+		if (buffer.length != fBufferSize) {
+			fDiscards.increment();
+			return;
+		}
+		offer(fCharArrays, buffer);
+	}
+
+	public ByteBuffer acquireDirectBuffer() {
+		ByteBuffer buffer = poll(fDirectBuffers);
+		if (buffer == null) {
+			return ByteBuffer.allocateDirect(fBufferSize);
+		}
+		buffer.clear();
+		return buffer;
+	}
+
+	public void release(ByteBuffer buffer) {
+		if (buffer == null) {
+			return;
+		}
+
+		if (!buffer.isDirect() || buffer.isReadOnly() || buffer.capacity() != fBufferSize) {
+			fDiscards.increment();
+			return;
+		}
+		offer(fDirectBuffers, buffer);
+	}
+
+	public long getHitCount() {
+		return fHits.sum();
+	}
+
+	public long getMissCount() {
+		return fMisses.sum();
+	}
+
+	public long getDiscardCount() {
+		return fDiscards.sum();
+	}
+
+	public double getHitRatio() {
+		long hits = getHitCount();
+		long total = hits + getMissCount();
+		if (total == 0) {
+			return 0;
+		}
+		return (double) hits / total;
+	}
+
+	private int getStripe() {
+		return (int) (Thread.currentThread().getId() & fStripeMask) * SLOTS_PER_STRIPE;
+	}
+
+	private <T> T poll(AtomicReferenceArray<T> slots) {
+		int stripe = getStripe();
+		for (int i = 0; i < SLOTS_PER_STRIPE; i++) {
+			T value = slots.get(stripe + i);
+			if (value != null && slots.compareAndSet(stripe + i, value, null)) {
+				fHits.increment();
+				return value;
+			}
+		}
+		fMisses.increment();
+		return null;
+	}
+
+	private <T> void offer(AtomicReferenceArray<T> slots, T value) {
+		int stripe = getStripe();
+		for (int i = 0; i < SLOTS_PER_STRIPE; i++) {
+			if (slots.get(stripe + i) == null && slots.compareAndSet(stripe + i, null, value)) {
+				return;
+			}
+		}
+		fDiscards.increment();
+	}
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+public class ByteArrayBuilder extends OutputStream {
+
+	private static final int MIN_CHUNK_SIZE = 32;
+	private static final int MAX_CHUNK_SIZE = 1 << 20;
+	private static final int MAX_SIZE = Integer.MAX_VALUE - 8;
+
+	private final List<byte[]> fChunks = new ArrayList<>();
+	private byte[] fChunk;
+	private int fPosition;
+	private int fSize;
+
+	public ByteArrayBuilder() {
+		this(256);
+	}
+
+	public ByteArrayBuilder(int sizeHint) {
+		if (sizeHint < 0) {
+			throw new IllegalArgumentException("Invalid size hint: " + sizeHint);
+		}
+
+		fChunk = new byte[Math.max(Math.min(sizeHint, MAX_SIZE), MIN_CHUNK_SIZE)];
+	}
+
+	@Override
+	public void write(int b) {
+		if (fPosition == fChunk.length) {
+			nextChunk(1);
+		}
+		fChunk[fPosition++] = (byte) b;
+		fSize++;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) {
+		Objects.checkFromIndexSize(off, len, b.length);
+		if ((long) fSize + len > MAX_SIZE) {
+			throw new IllegalStateException("Required array size too large.");
+		}
+
+		while (len > 0) {
+			if (fPosition == fChunk.length) {
+				nextChunk(len);
+			}
+			int length = Math.min(len, fChunk.length - fPosition);
+			System.arraycopy(b, off, fChunk, fPosition, length);
+			fPosition += length;
+			fSize += length;
+			off += length;
+			len -= length;
+		}
+	}
+
+	private void nextChunk(int required) {
+		if (fSize == MAX_SIZE) {
+			throw new IllegalStateException("Required array size too large.");
+		}
+
+		fChunks.add(fChunk);
+		int chunkSize = Math.max(required, Math.min(Math.max(fSize, MIN_CHUNK_SIZE), MAX_CHUNK_SIZE));
+		fChunk = new byte[Math.min(chunkSize, MAX_SIZE - fSize)];
+		fPosition = 0;
+	}
+
+	public int size() {
+		return fSize;
+	}
+
+	public byte[] toByteArray() {
+		if (fChunks.isEmpty()) {
+			return Arrays.copyOf(fChunk, fPosition);
+		}
+
+		byte[] bytes = new byte[fSize];
+		int position = 0;
+		for (byte[] chunk : fChunks) {
+			System.arraycopy(chunk, 0, bytes, position, chunk.length);
+			position += chunk.length;
+		}
+		System.arraycopy(fChunk, 0, bytes, position, fPosition);
+		return bytes;
+	}
+
+	public void writeTo(OutputStream out) throws IOException {
+		for (byte[] chunk : fChunks) {
+			out.write(chunk);
+		}
+		out.write(fChunk, 0, fPosition);
+	}
+
+	public String toString(Charset charset) {
+		if (fChunks.isEmpty()) {
+			return new String(fChunk, 0, fPosition, charset);
+		}
+		return new String(toByteArray(), charset);
+	}
+
+	@Override
+	public String toString() {
+		return toString(Charset.defaultCharset());
+	}
+
+}
@@ -1,16 +1,16 @@
 /*
  * Copyright (c) 2021 MintJams Inc.
- * 
+ *
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
  * in the Software without restriction, including without limitation the rights
  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
  * copies of the Software, and to permit persons to whom the Software is
  * furnished to do so, subject to the following conditions:
- * 
+ *
  * The above copyright notice and this permission notice shall be included in all
  * copies or substantial portions of the Software.
- * 
+ *
  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
@@ -24,65 +24,210 @@ package org.mintjams.tools.io;
 
 import java.io.Closeable;
 import java.io.IOException;
-import java.util.Vector;
+import java.lang.ref.Cleaner;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 
-public class Closer extends Vector<Closeable> implements Closeable {
+public class Closer implements Closeable {
 
-	private static final long serialVersionUID = 1L;
+	private static final AutoCloseable[] EMPTY = new AutoCloseable[0];
+	private static final LongAdder CLOSE_COUNT = new LongAdder();
+	private static final LongAdder CLOSE_NANOS = new LongAdder();
+	private static final LongAccumulator MAX_CLOSE_NANOS = new LongAccumulator(Math::max, 0);
+	private static final LongAdder LEAK_COUNT = new LongAdder();
 
-	private Closer() {}
+	private static volatile int fLeakDetectionInterval;
+	private static volatile Consumer<? super Throwable> fLeakListener = Closer::reportLeak;
+
+	private AutoCloseable[] fResources = EMPTY;
+	private int fSize;
+	private final LeakTracker fLeakTracker;
+
+	private Closer() {
+		int interval = fLeakDetectionInterval;
+		if (interval > 0 && (interval == 1 || ThreadLocalRandom.current().nextInt(interval) == 0)) {
+			fLeakTracker = new LeakTracker();
+			Leaks.CLEANER.register(this, fLeakTracker);
+		} else {
+			fLeakTracker = null;
+		}
+	}
 
 	public static Closer create() {
 		return new Closer();
 	}
 
+	public static Closer createConcurrent() {
+		return new ConcurrentCloser();
+	}
+
 	@Deprecated
 	public static Closer newCloser() {
 		return create();
 	}
 
-	public synchronized boolean add(AutoCloseable e) {
-		return add(new Closeable() {
-			@Override
-			public void close() throws IOException {
-				try {
-					e.close();
-				} catch (Throwable ex) {
-					throw (IOException) new IOException(ex.getMessage()).initCause(ex);
-				}
-			}
-		});
+	public boolean add(AutoCloseable e) {
+		if (e == null) {
+			return false;
+		}
+
+		if (fSize == fResources.length) {
+			fResources = Arrays.copyOf(fResources, Math.max(fSize * 2, 4));
+		}
+		fResources[fSize++] = e;
+		if (fLeakTracker != null) {
+			fLeakTracker.fOpen = true;
+		}
+		return true;
 	}
 
-	public synchronized <C extends AutoCloseable> C register(C e) {
+	public <C extends AutoCloseable> C register(C e) {
 		add(e);
 		return e;
 	}
 
-	public synchronized <C extends AutoCloseable> C unregister(C e) {
-		remove(e);
+	public <C extends AutoCloseable> C unregister(C e) {
+		for (int i = fSize - 1; i >= 0; i--) {
+			if (fResources[i] == e) {
+				System.arraycopy(fResources, i + 1, fResources, i, fSize - i - 1);
+				fResources[--fSize] = null;
+				break;
+			}
+		}
+		if (fLeakTracker != null && fSize == 0) {
+			fLeakTracker.fOpen = false;
+		}
 		return e;
 	}
 
+	public int size() {
+		return fSize;
+	}
+
+	public boolean isEmpty() {
+		return (fSize == 0);
+	}
+
 	@Override
-	public synchronized void close() throws IOException {
+	public void close() throws IOException {
 		close(true);
 	}
 
-	public synchronized void close(boolean quietly) throws IOException {
-		while (!isEmpty()) {
-			try {
-				remove(size() - 1).close();
-			} catch (Throwable ex) {
-				if (quietly) {
-					continue;
-				}
+	public void close(boolean quietly) throws IOException {
+		long start = System.nanoTime();
+		try {
+			while (fSize > 0) {
+				AutoCloseable e = fResources[--fSize];
+				fResources[fSize] = null;
+				try {
+					e.close();
+				} catch (Throwable ex) {
+					if (quietly) {
+						continue;
+					}
 
-				if (ex instanceof IOException) {
-					throw ex;
+					if (ex instanceof IOException) {
+						throw (IOException) ex;
+					}
+					throw (IOException) new IOException(ex.getMessage()).initCause(ex);
 				}
-				throw (IOException) new IOException(ex.getMessage()).initCause(ex);
 			}
+		} finally {
+			if (fLeakTracker != null && fSize == 0) {
+				fLeakTracker.fOpen = false;
+			}
+			long nanos = System.nanoTime() - start;
+			CLOSE_COUNT.increment();
+			CLOSE_NANOS.add(nanos);
+			MAX_CLOSE_NANOS.accumulate(nanos);
+		}
+	}
+
+	public static int getLeakDetectionInterval() {
+		return fLeakDetectionInterval;
+	}
+
+	public static void setLeakDetectionInterval(int interval) {
+		if (interval < 0) {
+			throw new IllegalArgumentException("Invalid interval: " + interval);
+		}
+
+		fLeakDetectionInterval = interval;
+	}
+
+	public static void setLeakListener(Consumer<? super Throwable> listener) {
+		fLeakListener = (listener != null) ? listener : Closer::reportLeak;
+	}
+
+	public static long getLeakCount() {
+		return LEAK_COUNT.sum();
+	}
+
+	public static long getCloseCount() {
+		return CLOSE_COUNT.sum();
+	}
+
+	public static long getCloseTime(TimeUnit unit) {
+		return unit.convert(CLOSE_NANOS.sum(), TimeUnit.NANOSECONDS);
+	}
+
+	public static long getMaxCloseTime(TimeUnit unit) {
+		return unit.convert(MAX_CLOSE_NANOS.get(), TimeUnit.NANOSECONDS);
+	}
+
+	private static void reportLeak(Throwable creationSite) {
+		System.getLogger(Closer.class.getName()).log(System.Logger.Level.WARNING, creationSite.getMessage(), creationSite);
+	}
+
+	private static class Leaks {
+		private static final Cleaner CLEANER = Cleaner.create();
+	}
+
+	private static class LeakTracker implements Runnable {
+		private final Throwable fCreationSite = new Throwable("A Closer was garbage-collected without being closed.");
+		private volatile boolean fOpen;
+
+		@Override
+		public void run() {
+			if (!fOpen) {
+				return;
+			}
+
+			LEAK_COUNT.increment();
+			try {
+				fLeakListener.accept(fCreationSite);
+			} catch (Throwable ignore) {}
+		}
+	}
+
+	private static class ConcurrentCloser extends Closer {
+		@Override
+		public synchronized boolean add(AutoCloseable e) {
+			return super.add(e);
+		}
+
+		@Override
+		public synchronized <C extends AutoCloseable> C unregister(C e) {
+			return super.unregister(e);
+		}
+
+		@Override
+		public synchronized int size() {
+			return super.size();
+		}
+
+		@Override
+		public synchronized boolean isEmpty() {
+			return super.isEmpty();
+		}
+
+		@Override
+		public synchronized void close(boolean quietly) throws IOException {
+			super.close(quietly);
 		}
 	}
 
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.io;
+
+import java.nio.file.Path;
+
+public final class CopyOptions {
+
+	private final int fParallelism;
+	private final boolean fReplaceExisting;
+	private final boolean fMove;
+	private final boolean fVerifyChecksum;
+	private final boolean fCopyAttributes;
+	private final CopyListener fListener;
+
+	private CopyOptions(Builder builder) {
+		fParallelism = builder.fParallelism;
+		fReplaceExisting = builder.fReplaceExisting;
+		fMove = builder.fMove;
+		fVerifyChecksum = builder.fVerifyChecksum;
+		fCopyAttributes = builder.fCopyAttributes;
+		fListener = builder.fListener;
+	}
+
+	public int getParallelism() {
+		return fParallelism;
+	}
+
+	public boolean isReplaceExisting() {
+		return fReplaceExisting;
+	}
+
+	public boolean isMove() {
+		return fMove;
+	}
+
+	public boolean isVerifyChecksum() {
+		return fVerifyChecksum;
+	}
+
+	public boolean isCopyAttributes() {
+		return fCopyAttributes;
+	}
+
+	public CopyListener getListener() {
+		return fListener;
+	}
+
+	public static Builder newBuilder() {
+		return Builder.create();
+	}
+
+	/**
+	 * Receives one callback per copied file. Callbacks come from the copy's
+	 * worker threads and may run concurrently.
+	 */
+	public interface CopyListener {
+		void copied(Path source, Path target, long size);
+	}
+
+	public static class Builder {
+		private int fParallelism = Runtime.getRuntime().availableProcessors();
+		private boolean fReplaceExisting;
+		private boolean fMove;
+		private boolean fVerifyChecksum;
+		private boolean fCopyAttributes;
+		private CopyListener fListener;
+
+		private Builder() {}
+
+		public static Builder create() {
+			return new Builder();
+		}
+
+		public Builder setParallelism(int parallelism) {
+			if (parallelism < 1) {
+				throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+			}
+
+			fParallelism = parallelism;
+			return this;
+		}
+
+		public Builder setReplaceExisting(boolean replaceExisting) {
+			fReplaceExisting = replaceExisting;
+			return this;
+		}
+
+		public Builder setMove(boolean move) {
+			fMove = move;
+			return this;
+		}
+
+		public Builder setVerifyChecksum(boolean verifyChecksum) {
+			fVerifyChecksum = verifyChecksum;
+			return this;
+		}
+
+		public Builder setCopyAttributes(boolean copyAttributes) {
+			fCopyAttributes = copyAttributes;
+			return this;
+		}
+
+		public Builder setListener(CopyListener listener) {
+			fListener = listener;
+			return this;
+		}
+
+		public CopyOptions build() {
+			return new CopyOptions(this);
+		}
+	}
+
+}
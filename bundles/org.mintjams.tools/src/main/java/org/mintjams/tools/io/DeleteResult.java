@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.io;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+
+public final class DeleteResult {
+
+	private final long fFileCount;
+	private final long fDirectoryCount;
+	private final long fByteCount;
+	private final Map<Path, IOException> fFailures;
+
+	DeleteResult(long fileCount, long directoryCount, long byteCount, Map<Path, IOException> failures) {
+		fFileCount = fileCount;
+		fDirectoryCount = directoryCount;
+		fByteCount = byteCount;
+		fFailures = Collections.unmodifiableMap(failures);
+	}
+
+	public long getFileCount() {
+		return fFileCount;
+	}
+
+	public long getDirectoryCount() {
+		return fDirectoryCount;
+	}
+
+	public long getByteCount() {
+		return fByteCount;
+	}
+
+	public Map<Path, IOException> getFailures() {
+		return fFailures;
+	}
+
+	public boolean isSuccessful() {
+		return fFailures.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "files=" + fFileCount + ", directories=" + fDirectoryCount + ", bytes=" + fByteCount + ", failures=" + fFailures.size();
+	}
+
+}
@@ -22,100 +22,410 @@
 
 package org.mintjams.tools.io;
 
-import java.io.ByteArrayOutputStream;
-import java.io.File;
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
-import java.nio.file.Files;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
-import java.util.Comparator;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 public class IOs {
 
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private static final long MAPPING_THRESHOLD = 1L << 20;
+	private static final int MAX_SIZE_HINT = 1 << 20;
+
+	private static volatile BufferPool fBufferPool = BufferPool.getDefault();
+
 	private IOs() {}
 
+	public static BufferPool getBufferPool() {
+		return fBufferPool;
+	}
+
+	public static int getBufferSize() {
+		return fBufferPool.getBufferSize();
+	}
+
+	public static void setBufferSize(int bufferSize) {
+		if (bufferSize < 1) {
+			throw new IllegalArgumentException("Invalid buffer size: " + bufferSize);
+		}
+
+		if (bufferSize == fBufferPool.getBufferSize()) {
+			return;
+		}
+
+		if (bufferSize == DEFAULT_BUFFER_SIZE) {
+			fBufferPool = BufferPool.getDefault();
+		} else {
+			fBufferPool = BufferPool.create(bufferSize);
+		}
+	}
+
 	public static void copy(InputStream in, OutputStream out) throws IOException {
-		for (byte[] buffer = new byte[8192];;) {
-			int length = in.read(buffer);
-			if (length == -1) {
-				break;
+		if (in.getClass() == FileInputStream.class && out.getClass() == FileOutputStream.class) {
+			copy(((FileInputStream) in).getChannel(), ((FileOutputStream) out).getChannel());
+			return;
+		}
+
+		BufferPool pool = fBufferPool;
+		byte[] buffer = pool.acquireByteArray();
+		try {
+			for (;;) {
+				int length = in.read(buffer);
+				if (length == -1) {
+					break;
+				}
+				out.write(buffer, 0, length);
+			}
+		} finally {
+			pool.release(buffer);
+		}
+	}
+
+	public static void copy(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+		if (in instanceof FileChannel) {
+			FileChannel channel = (FileChannel) in;
+			long position = channel.position();
+			for (long size = channel.size(); position < size;) {
+				long length = channel.transferTo(position, size - position, out);
+				if (length <= 0) {
+					break;
+				}
+				position += length;
+			}
+			channel.position(position);
+		} else if (out instanceof FileChannel) {
+			FileChannel channel = (FileChannel) out;
+			long position = channel.position();
+			for (;;) {
+				long length = channel.transferFrom(in, position, Math.max(getBufferSize(), 1 << 20));
+				if (length <= 0) {
+					break;
+				}
+				position += length;
 			}
-			out.write(buffer, 0, length);
+			channel.position(position);
+		}
+
+		BufferPool pool = fBufferPool;
+		ByteBuffer buffer = pool.acquireDirectBuffer();
+		try {
+			for (;;) {
+				if (in.read(buffer) == -1) {
+					break;
+				}
+				buffer.flip();
+				while (buffer.hasRemaining()) {
+					out.write(buffer);
+				}
+				buffer.clear();
+			}
+		} finally {
+			pool.release(buffer);
+		}
+	}
+
+	public static void copy(Path source, Path target) throws IOException {
+		try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			copy(in, out);
 		}
 	}
 
 	public static void copy(InputStream in, OutputStream out, long offset, long length) throws IOException {
-		if (offset < 0) {
-			throw new IllegalArgumentException("Invalid offset: " + offset);
+		checkRange(offset, length);
+		if (length == 0) {
+			return;
 		}
-		if (length < 0) {
-			throw new IllegalArgumentException("Invalid length: " + length);
+
+		boolean seekable = true;
+		if (in.getClass() == FileInputStream.class) {
+			FileChannel channel = ((FileInputStream) in).getChannel();
+			long position = -1;
+			try {
+				position = channel.position();
+			} catch (IOException ignore) {
+				seekable = false;
+			}
+			if (position >= 0) {
+				position += offset;
+				position += copyRange(channel, out, position, length);
+				channel.position(position);
+				return;
+			}
 		}
 
+		BufferPool pool = fBufferPool;
+		byte[] buffer = pool.acquireByteArray();
+		try {
+			if (!(seekable ? skipFully(in, offset) : discardFully(in, offset, buffer))) {
+				return;
+			}
+
+			while (length > 0) {
+				int readLength;
+				if (length >= buffer.length) {
+					readLength = in.read(buffer);
+				} else {
+					readLength = in.read(buffer, 0, Math.toIntExact(length));
+				}
+				if (readLength == -1) {
+					break;
+				}
+				out.write(buffer, 0, readLength);
+				length -= readLength;
+			}
+		} finally {
+			pool.release(buffer);
+		}
+	}
+
+	public static void copy(FileChannel in, OutputStream out, long offset, long length) throws IOException {
+		checkRange(offset, length);
 		if (length == 0) {
 			return;
 		}
 
-		if (offset > 0) {
-			in.skip(offset);
+		copyRange(in, out, offset, length);
+	}
+
+	public static void copy(Path source, OutputStream out, long offset, long length) throws IOException {
+		try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+			copy(in, out, offset, length);
 		}
+	}
 
-		for (byte[] buffer = new byte[8192]; length > 0;) {
-			int readLength;
-			if (length >= buffer.length) {
-				readLength = in.read(buffer);
-			} else {
-				readLength = in.read(buffer, 0, Math.toIntExact(length));
+	public static void copy(FileChannel in, OutputStream out, Iterable<Range> ranges, RangeListener listener) throws IOException {
+		for (Range range : ranges) {
+			if (listener != null) {
+				listener.beforeRange(range);
 			}
+			if (range.getLength() > 0) {
+				copyRange(in, out, range.getOffset(), range.getLength());
+			}
+		}
+	}
+
+	public static void copy(Path source, OutputStream out, Iterable<Range> ranges, RangeListener listener) throws IOException {
+		try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+			copy(in, out, ranges, listener);
+		}
+	}
+
+	private static long copyRange(FileChannel in, OutputStream out, long position, long length) throws IOException {
+		long remaining = length;
+		if (out.getClass() == FileOutputStream.class) {
+			FileChannel channel = ((FileOutputStream) out).getChannel();
+			while (remaining > 0) {
+				long transferLength = in.transferTo(position, remaining, channel);
+				if (transferLength <= 0) {
+					break;
+				}
+				position += transferLength;
+				remaining -= transferLength;
+			}
+			return length - remaining;
+		}
+
+		BufferPool pool = fBufferPool;
+		byte[] bytes = pool.acquireByteArray();
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			while (remaining > 0) {
+				buffer.clear();
+				buffer.limit((int) Math.min(buffer.capacity(), remaining));
+				int readLength = in.read(buffer, position);
+				if (readLength == -1) {
+					break;
+				}
+				out.write(bytes, 0, readLength);
+				position += readLength;
+				remaining -= readLength;
+			}
+		} finally {
+			pool.release(bytes);
+		}
+		return length - remaining;
+	}
+
+	private static boolean skipFully(InputStream in, long length) throws IOException {
+		while (length > 0) {
+			long skipLength = in.skip(length);
+			if (skipLength > 0) {
+				length -= skipLength;
+				continue;
+			}
+			if (in.read() == -1) {
+				return false;
+			}
+			length--;
+		}
+		return true;
+	}
+
+	private static boolean discardFully(InputStream in, long length, byte[] buffer) throws IOException {
+		while (length > 0) {
+			int readLength = in.read(buffer, 0, (int) Math.min(buffer.length, length));
 			if (readLength == -1) {
-				break;
+				return false;
 			}
-			out.write(buffer, 0, readLength);
 			length -= readLength;
 		}
+		return true;
+	}
+
+	private static void checkRange(long offset, long length) {
+		if (offset < 0) {
+			throw new IllegalArgumentException("Invalid offset: " + offset);
+		}
+		if (length < 0) {
+			throw new IllegalArgumentException("Invalid length: " + length);
+		}
 	}
 
 	public static void copy(Reader in, Writer out) throws IOException {
-		for (char[] buffer = new char[8192];;) {
-			int length = in.read(buffer);
-			if (length == -1) {
-				break;
+		BufferPool pool = fBufferPool;
+		char[] buffer = pool.acquireCharArray();
+		try {
+			for (;;) {
+				int length = in.read(buffer);
+				if (length == -1) {
+					break;
+				}
+				out.write(buffer, 0, length);
 			}
-			out.write(buffer, 0, length);
+		} finally {
+			pool.release(buffer);
 		}
 	}
 
 	public static byte[] toByteArray(InputStream in) throws IOException {
 		try (in) {
-			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			ByteArrayBuilder out = new ByteArrayBuilder(Math.min(Math.max(in.available(), 0), MAX_SIZE_HINT));
 			copy(in, out);
 			return out.toByteArray();
 		}
 	}
 
+	public static byte[] toByteArray(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE - 8) {
+				throw new IllegalStateException("Required array size too large.");
+			}
+
+			byte[] bytes = new byte[(int) size];
+			if (size >= MAPPING_THRESHOLD) {
+				channel.map(FileChannel.MapMode.READ_ONLY, 0, size).get(bytes);
+				return bytes;
+			}
+
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer) == -1) {
+					return Arrays.copyOf(bytes, buffer.position());
+				}
+			}
+			return bytes;
+		}
+	}
+
+	public static Stream<String> lines(Path path, Charset charset) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(new MappedInputStream(path), charset));
+		try {
+			return reader.lines().onClose(() -> closeQuietly(reader));
+		} catch (Throwable ex) {
+			closeQuietly(reader);
+			throw ex;
+		}
+	}
+
 	public static void deleteIfExists(Path path) throws IOException {
-		if (!Files.exists(path)) {
+		DeleteResult result = delete(path);
+		if (result.isSuccessful()) {
 			return;
 		}
 
-		if (!Files.isDirectory(path)) {
-			Files.delete(path);
-			return;
+		IOException ex = new IOException("Failed to delete " + result.getFailures().size() + " path(s) under: " + path);
+		for (IOException failure : result.getFailures().values()) {
+			ex.addSuppressed(failure);
 		}
+		throw ex;
+	}
 
-		try (Stream<Path> stream = Files.walk(path)) {
-			stream.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+	public static DeleteResult delete(Path path) {
+		ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		try {
+			return delete(path, pool);
+		} finally {
+			pool.shutdown();
 		}
 	}
 
+	public static DeleteResult delete(Path path, ForkJoinPool pool) {
+		return TreeDeleter.delete(path, pool);
+	}
+
+	public static CopyResult copyTree(Path source, Path target) {
+		return copyTree(source, target, CopyOptions.newBuilder().build());
+	}
+
+	public static CopyResult copyTree(Path source, Path target, CopyOptions options) {
+		return TreeCopier.copy(source, target, options);
+	}
+
 	public static void closeQuietly(AutoCloseable closeable) {
 		try {
 			closeable.close();
 		} catch (Throwable ignore) {}
 	}
 
+	public static final class Range {
+		private final long fOffset;
+		private final long fLength;
+
+		private Range(long offset, long length) {
+			fOffset = offset;
+			fLength = length;
+		}
+
+		public static Range of(long offset, long length) {
+			checkRange(offset, length);
+			return new Range(offset, length);
+		}
+
+		public long getOffset() {
+			return fOffset;
+		}
+
+		public long getLength() {
+			return fLength;
+		}
+
+		@Override
+		public String toString() {
+			return fOffset + "-" + (fOffset + fLength - 1);
+		}
+	}
+
+	public interface RangeListener {
+		void beforeRange(Range range) throws IOException;
+	}
+
 }
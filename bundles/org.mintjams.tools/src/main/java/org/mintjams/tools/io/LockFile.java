@@ -26,17 +26,22 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
 import java.nio.file.Path;
 
 public class LockFile implements Closeable {
 
 	private RandomAccessFile fRandom;
 	private FileLock fLock;
+	private final boolean fShared;
 
-	private LockFile(Path path) throws IOException {
+	private LockFile(Path path, boolean shared) throws IOException {
+		fShared = shared;
 		try {
 			fRandom = new RandomAccessFile(path.toFile(), "rw");
-			fLock = fRandom.getChannel().tryLock();
+			fLock = fRandom.getChannel().tryLock(0, Long.MAX_VALUE, shared);
+		} catch (OverlappingFileLockException ignore) {
+			fLock = null;
 		} catch (Throwable ex) {
 			close();
 			if (ex instanceof IOException) {
@@ -50,16 +55,35 @@ public class LockFile implements Closeable {
 
 		if (fLock == null) {
 			close();
-			throw new IOException("Could not obtain the lock.");
 		}
 	}
 
 	public static LockFile create(Path path) throws IOException {
-		return new LockFile(path);
+		return create(path, false);
 	}
 
 	public static LockFile create(String path) throws IOException {
-		return new LockFile(Path.of(path));
+		return create(Path.of(path), false);
+	}
+
+	public static LockFile create(Path path, boolean shared) throws IOException {
+		LockFile lockFile = tryCreate(path, shared);
+		if (lockFile == null) {
+			throw new IOException("Could not obtain the lock.");
+		}
+		return lockFile;
+	}
+
+	public static LockFile tryCreate(Path path, boolean shared) throws IOException {
+		LockFile lockFile = new LockFile(path, shared);
+		if (lockFile.fLock == null) {
+			return null;
+		}
+		return lockFile;
+	}
+
+	public boolean isShared() {
+		return fShared;
 	}
 
 	@Override
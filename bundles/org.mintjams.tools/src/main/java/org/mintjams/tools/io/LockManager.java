@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LockManager {
+
+	private static final LockManager DEFAULT = newBuilder().build();
+
+	private final Stripe[] fStripes;
+	private final long fInitialBackoff;
+	private final long fMaxBackoff;
+	private final LongAdder fAcquireCount = new LongAdder();
+	private final LongAdder fTimeoutCount = new LongAdder();
+	private final LongAdder fContendedCount = new LongAdder();
+	private final LongAdder fWaitNanos = new LongAdder();
+	private final LongAccumulator fMaxWaitNanos = new LongAccumulator(Math::max, 0);
+
+	private LockManager(Builder builder) {
+		fStripes = new Stripe[builder.fStripes];
+		for (int i = 0; i < fStripes.length; i++) {
+			fStripes[i] = new Stripe();
+		}
+		fInitialBackoff = builder.fInitialBackoff;
+		fMaxBackoff = builder.fMaxBackoff;
+	}
+
+	public static LockManager getDefault() {
+		return DEFAULT;
+	}
+
+	public Handle acquire(Path path, Mode mode) throws IOException {
+		return acquire(path, mode, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+	}
+
+	public Handle acquire(Path path, Mode mode, long timeout, TimeUnit unit) throws IOException {
+		Handle handle = tryAcquire(path, mode, timeout, unit);
+		if (handle == null) {
+			throw new IOException("Could not obtain the lock.");
+		}
+		return handle;
+	}
+
+	public Handle tryAcquire(Path path, Mode mode) throws IOException {
+		return tryAcquire(path, mode, 0, TimeUnit.NANOSECONDS);
+	}
+
+	public Handle tryAcquire(Path path, Mode mode, long timeout, TimeUnit unit) throws IOException {
+		Path lockPath = path.toAbsolutePath().normalize();
+		Stripe stripe = fStripes[(lockPath.hashCode() & 0x7fffffff) % fStripes.length];
+		long start = System.nanoTime();
+		long deadline = start + Math.max(unit.toNanos(timeout), 0);
+		if (deadline < start) {
+			deadline = Long.MAX_VALUE;
+		}
+
+		PathLock pathLock = stripe.retain(lockPath);
+		if (mode == Mode.EXCLUSIVE && pathLock.fLock.getReadHoldCount() > 0) {
+			stripe.release(pathLock);
+			throw new IllegalStateException("Cannot upgrade a shared lock: " + lockPath);
+		}
+
+		Lock lock = (mode == Mode.SHARED) ? pathLock.fLock.readLock() : pathLock.fLock.writeLock();
+		boolean locked = false;
+		boolean acquired = false;
+		try {
+			locked = lock.tryLock();
+			if (!locked) {
+				fContendedCount.increment();
+				locked = lock.tryLock(remaining(deadline), TimeUnit.NANOSECONDS);
+			}
+			if (locked) {
+				acquired = pathLock.acquire(mode, deadline);
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw (InterruptedIOException) new InterruptedIOException(ex.getMessage()).initCause(ex);
+		} finally {
+			if (!acquired) {
+				if (locked) {
+					lock.unlock();
+				}
+				stripe.release(pathLock);
+			}
+			long waitNanos = System.nanoTime() - start;
+			fWaitNanos.add(waitNanos);
+			fMaxWaitNanos.accumulate(waitNanos);
+		}
+
+		if (!acquired) {
+			fTimeoutCount.increment();
+			return null;
+		}
+
+		fAcquireCount.increment();
+		return new Handle(stripe, pathLock, lock, mode);
+	}
+
+	private static long remaining(long deadline) {
+		if (deadline == Long.MAX_VALUE) {
+			return Long.MAX_VALUE;
+		}
+		return Math.max(deadline - System.nanoTime(), 0);
+	}
+
+	public long getAcquireCount() {
+		return fAcquireCount.sum();
+	}
+
+	public long getTimeoutCount() {
+		return fTimeoutCount.sum();
+	}
+
+	public long getContendedCount() {
+		return fContendedCount.sum();
+	}
+
+	public long getWaitTime(TimeUnit unit) {
+		return unit.convert(fWaitNanos.sum(), TimeUnit.NANOSECONDS);
+	}
+
+	public long getMaxWaitTime(TimeUnit unit) {
+		return unit.convert(fMaxWaitNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	public static Builder newBuilder() {
+		return Builder.create();
+	}
+
+	public enum Mode {
+		SHARED, EXCLUSIVE
+	}
+
+	public static class Builder {
+		private int fStripes = 64;
+		private long fInitialBackoff = TimeUnit.MILLISECONDS.toNanos(1);
+		private long fMaxBackoff = TimeUnit.MILLISECONDS.toNanos(200);
+
+		private Builder() {}
+
+		public static Builder create() {
+			return new Builder();
+		}
+
+		public Builder setStripes(int stripes) {
+			if (stripes < 1) {
+				throw new IllegalArgumentException("Invalid stripes: " + stripes);
+			}
+
+			fStripes = stripes;
+			return this;
+		}
+
+		public Builder setInitialBackoff(long backoff, TimeUnit unit) {
+			if (backoff < 1) {
+				throw new IllegalArgumentException("Invalid backoff: " + backoff);
+			}
+
+			fInitialBackoff = unit.toNanos(backoff);
+			return this;
+		}
+
+		public Builder setMaxBackoff(long backoff, TimeUnit unit) {
+			if (backoff < 1) {
+				throw new IllegalArgumentException("Invalid backoff: " + backoff);
+			}
+
+			fMaxBackoff = unit.toNanos(backoff);
+			return this;
+		}
+
+		public LockManager build() {
+			if (fMaxBackoff < fInitialBackoff) {
+				fMaxBackoff = fInitialBackoff;
+			}
+			return new LockManager(this);
+		}
+	}
+
+	/**
+	 * A handle belongs to the thread that acquired it and must be closed by that
+	 * thread. Closing it from another thread releases the path but throws
+	 * {@link IllegalMonitorStateException}.
+	 */
+	public class Handle implements Closeable {
+		private final Stripe fStripe;
+		private final PathLock fPathLock;
+		private final Lock fLock;
+		private final Mode fMode;
+		private boolean fClosed;
+
+		private Handle(Stripe stripe, PathLock pathLock, Lock lock, Mode mode) {
+			fStripe = stripe;
+			fPathLock = pathLock;
+			fLock = lock;
+			fMode = mode;
+		}
+
+		public Path getPath() {
+			return fPathLock.fPath;
+		}
+
+		public Mode getMode() {
+			return fMode;
+		}
+
+		@Override
+		public synchronized void close() throws IOException {
+			if (fClosed) {
+				return;
+			}
+
+			fClosed = true;
+			try {
+				fPathLock.release();
+			} finally {
+				try {
+					fLock.unlock();
+				} finally {
+					fStripe.release(fPathLock);
+				}
+			}
+		}
+	}
+
+	private class Stripe {
+		private final Map<Path, PathLock> fPathLocks = new HashMap<>();
+
+		private synchronized PathLock retain(Path path) {
+			PathLock pathLock = fPathLocks.get(path);
+			if (pathLock == null) {
+				pathLock = new PathLock(path);
+				fPathLocks.put(path, pathLock);
+			}
+			pathLock.fReferences++;
+			return pathLock;
+		}
+
+		private synchronized void release(PathLock pathLock) {
+			if (--pathLock.fReferences == 0) {
+				fPathLocks.remove(pathLock.fPath, pathLock);
+			}
+		}
+	}
+
+	private class PathLock {
+		private final Path fPath;
+		private final ReentrantReadWriteLock fLock = new ReentrantReadWriteLock(true);
+		private int fReferences;
+		private LockFile fLockFile;
+		private int fHolders;
+
+		private PathLock(Path path) {
+			fPath = path;
+		}
+
+		private boolean acquire(Mode mode, long deadline) throws IOException, InterruptedException {
+			for (long backoff = fInitialBackoff;;) {
+				synchronized (this) {
+					if (fLockFile == null) {
+						fLockFile = LockFile.tryCreate(fPath, (mode == Mode.SHARED));
+					}
+					if (fLockFile != null) {
+						fHolders++;
+						return true;
+					}
+				}
+
+				long remaining = remaining(deadline);
+				if (remaining == 0) {
+					return false;
+				}
+				fContendedCount.increment();
+				long sleep = Math.min(remaining, backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+				TimeUnit.NANOSECONDS.sleep(sleep);
+				backoff = Math.min(backoff * 2, fMaxBackoff);
+			}
+		}
+
+		private synchronized void release() throws IOException {
+			if (--fHolders > 0) {
+				return;
+			}
+
+			LockFile lockFile = fLockFile;
+			fLockFile = null;
+			lockFile.close();
+		}
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+public class MappedInputStream extends InputStream {
+
+	private static final long MAX_MAPPING_SIZE = 1L << 30;
+
+	private final FileChannel fChannel;
+	private final long fSize;
+	private long fOffset;
+	private MappedByteBuffer fBuffer;
+	private boolean fClosed;
+
+	public MappedInputStream(Path path) throws IOException {
+		fChannel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			fSize = fChannel.size();
+		} catch (IOException ex) {
+			IOs.closeQuietly(fChannel);
+			throw ex;
+		}
+	}
+
+	private boolean ensureMapped() throws IOException {
+		if (fClosed) {
+			throw new IOException("Stream closed.");
+		}
+
+		if (fBuffer != null) {
+			if (fBuffer.hasRemaining()) {
+				return true;
+			}
+			fOffset += fBuffer.limit();
+			fBuffer = null;
+		}
+
+		if (fOffset >= fSize) {
+			return false;
+		}
+
+		fBuffer = fChannel.map(FileChannel.MapMode.READ_ONLY, fOffset, Math.min(fSize - fOffset, MAX_MAPPING_SIZE));
+		return true;
+	}
+
+	private long position() {
+		if (fBuffer == null) {
+			return fOffset;
+		}
+		return fOffset + fBuffer.position();
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!ensureMapped()) {
+			return -1;
+		}
+		return fBuffer.get() & 0xff;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		if (len == 0) {
+			return 0;
+		}
+
+		if (!ensureMapped()) {
+			return -1;
+		}
+		int length = Math.min(len, fBuffer.remaining());
+		fBuffer.get(b, off, length);
+		return length;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		if (fClosed) {
+			throw new IOException("Stream closed.");
+		}
+		if (n <= 0) {
+			return 0;
+		}
+
+		long position = position();
+		long target = Math.min(fSize, position + Math.min(n, fSize));
+		if (fBuffer != null && target - fOffset <= fBuffer.limit()) {
+			fBuffer.position((int) (target - fOffset));
+		} else {
+			fBuffer = null;
+			fOffset = target;
+		}
+		return target - position;
+	}
+
+	@Override
+	public int available() throws IOException {
+		if (fClosed) {
+			throw new IOException("Stream closed.");
+		}
+		return (int) Math.min(fSize - position(), Integer.MAX_VALUE);
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (fClosed) {
+			return;
+		}
+
+		fClosed = true;
+		fBuffer = null;
+		fChannel.close();
+	}
+
+}
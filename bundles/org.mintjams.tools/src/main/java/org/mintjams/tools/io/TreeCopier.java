@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.DosFileAttributeView;
+import java.nio.file.attribute.DosFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+
+class TreeCopier {
+
+	private static final int BATCH_SIZE = 32;
+	private static final OpenOption[] CREATE_NEW = { StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW };
+	private static final OpenOption[] REPLACE_EXISTING = { StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING };
+
+	private final CopyOptions fOptions;
+	private final LongAdder fFileCount = new LongAdder();
+	private final LongAdder fDirectoryCount = new LongAdder();
+	private final LongAdder fByteCount = new LongAdder();
+	private final Map<Path, IOException> fFailures = new ConcurrentHashMap<>();
+
+	private TreeCopier(CopyOptions options) {
+		fOptions = options;
+	}
+
+	static CopyResult copy(Path source, Path target, CopyOptions options) {
+		TreeCopier copier = new TreeCopier(options);
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(source, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+		} catch (IOException ex) {
+			copier.fFailures.put(source, ex);
+			return copier.toResult();
+		}
+
+		Path sourcePath = source.toAbsolutePath().normalize();
+		Path targetPath = target.toAbsolutePath().normalize();
+		if (targetPath.equals(sourcePath) || (attributes.isDirectory() && targetPath.startsWith(sourcePath))) {
+			throw new IllegalArgumentException("Invalid target: " + target);
+		}
+
+		if (!attributes.isDirectory()) {
+			copier.copyFile(source, target, attributes);
+			return copier.toResult();
+		}
+
+		ForkJoinPool pool = new ForkJoinPool(options.getParallelism());
+		try {
+			pool.invoke(copier.new DirectoryTask(source, target, attributes));
+		} finally {
+			pool.shutdown();
+		}
+		return copier.toResult();
+	}
+
+	private CopyResult toResult() {
+		return new CopyResult(fFileCount.sum(), fDirectoryCount.sum(), fByteCount.sum(), fFailures);
+	}
+
+	private void copyFile(Path source, Path target, BasicFileAttributes attributes) {
+		try {
+			if (attributes.isSymbolicLink()) {
+				copySymbolicLink(source, target);
+			} else if (!fOptions.isMove() || !rename(source, target)) {
+				copyContent(source, target);
+				if (fOptions.isVerifyChecksum() && checksum(source) != checksum(target)) {
+					throw new IOException("Checksum mismatch: " + target);
+				}
+				if (fOptions.isCopyAttributes()) {
+					copyAttributes(source, target, attributes);
+				}
+				if (fOptions.isMove()) {
+					Files.delete(source);
+				}
+			}
+
+			copied(source, target, attributes.size());
+		} catch (IOException ex) {
+			fFailures.put(source, ex);
+		}
+	}
+
+	private void copied(Path source, Path target, long size) {
+		fFileCount.increment();
+		fByteCount.add(size);
+		CopyOptions.CopyListener listener = fOptions.getListener();
+		if (listener != null) {
+			listener.copied(source, target, size);
+		}
+	}
+
+	private void copyAttributes(Path source, Path target, BasicFileAttributes attributes) throws IOException {
+		Files.getFileAttributeView(target, BasicFileAttributeView.class)
+				.setTimes(attributes.lastModifiedTime(), attributes.lastAccessTime(), attributes.creationTime());
+
+		PosixFileAttributeView posix = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+		if (posix != null && Files.getFileAttributeView(source, PosixFileAttributeView.class) != null) {
+			posix.setPermissions(Files.readAttributes(source, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS).permissions());
+			return;
+		}
+
+		DosFileAttributeView dos = Files.getFileAttributeView(target, DosFileAttributeView.class);
+		if (dos != null && Files.getFileAttributeView(source, DosFileAttributeView.class) != null) {
+			DosFileAttributes dosAttributes = Files.readAttributes(source, DosFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+			dos.setArchive(dosAttributes.isArchive());
+			dos.setHidden(dosAttributes.isHidden());
+			dos.setSystem(dosAttributes.isSystem());
+			dos.setReadOnly(dosAttributes.isReadOnly());
+		}
+	}
+
+	private void renamed(Path source, Path target) throws IOException {
+		Files.walkFileTree(target, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+				fDirectoryCount.increment();
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+				copied(source.resolve(target.relativize(file).toString()), file, attributes.size());
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	private boolean rename(Path source, Path target) throws IOException {
+		if (!fOptions.isReplaceExisting() && Files.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+			throw new FileAlreadyExistsException(target.toString());
+		}
+
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+			return true;
+		} catch (AtomicMoveNotSupportedException ignore) {
+			return false;
+		}
+	}
+
+	private void copySymbolicLink(Path source, Path target) throws IOException {
+		if (fOptions.isReplaceExisting()) {
+			Files.deleteIfExists(target);
+		}
+		Files.createSymbolicLink(target, Files.readSymbolicLink(source));
+		if (fOptions.isMove()) {
+			Files.delete(source);
+		}
+	}
+
+	private void copyContent(Path source, Path target) throws IOException {
+		try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(target, fOptions.isReplaceExisting() ? REPLACE_EXISTING : CREATE_NEW)) {
+			IOs.copy(in, out);
+		}
+	}
+
+	private long checksum(Path path) throws IOException {
+		CRC32C checksum = new CRC32C();
+		BufferPool pool = IOs.getBufferPool();
+		ByteBuffer buffer = pool.acquireDirectBuffer();
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			while (channel.read(buffer) != -1) {
+				buffer.flip();
+				checksum.update(buffer);
+				buffer.clear();
+			}
+		} finally {
+			pool.release(buffer);
+		}
+		return checksum.getValue();
+	}
+
+	private class DirectoryTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Path fSource;
+		private final Path fTarget;
+		private final BasicFileAttributes fAttributes;
+
+		private DirectoryTask(Path source, Path target, BasicFileAttributes attributes) {
+			fSource = source;
+			fTarget = target;
+			fAttributes = attributes;
+		}
+
+		@Override
+		protected void compute() {
+			if (fOptions.isMove() && !Files.exists(fTarget, LinkOption.NOFOLLOW_LINKS)) {
+				boolean renamed = false;
+				try {
+					Files.move(fSource, fTarget, StandardCopyOption.ATOMIC_MOVE);
+					renamed = true;
+				} catch (IOException ignore) {}
+				if (renamed) {
+					try {
+						renamed(fSource, fTarget);
+					} catch (IOException ex) {
+						fFailures.put(fSource, ex);
+					}
+					return;
+				}
+			}
+
+			try {
+				Files.createDirectories(fTarget);
+			} catch (IOException ex) {
+				fFailures.put(fSource, ex);
+				return;
+			}
+
+			List<RecursiveAction> tasks = new ArrayList<>();
+			List<Path> batch = new ArrayList<>();
+			try (DirectoryStream<Path> stream = Files.newDirectoryStream(fSource)) {
+				for (Path path : stream) {
+					BasicFileAttributes attributes;
+					try {
+						attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+					} catch (IOException ex) {
+						fFailures.put(path, ex);
+						continue;
+					}
+
+					Path target = fTarget.resolve(path.getFileName().toString());
+					if (attributes.isDirectory()) {
+						DirectoryTask task = new DirectoryTask(path, target, attributes);
+						task.fork();
+						tasks.add(task);
+						continue;
+					}
+
+					batch.add(path);
+					if (batch.size() == BATCH_SIZE) {
+						FileBatchTask task = new FileBatchTask(fTarget, batch);
+						task.fork();
+						tasks.add(task);
+						batch = new ArrayList<>();
+					}
+				}
+			} catch (IOException ex) {
+				fFailures.put(fSource, ex);
+			} finally {
+				new FileBatchTask(fTarget, batch).compute();
+				for (RecursiveAction task : tasks) {
+					task.join();
+				}
+			}
+
+			try {
+				if (fOptions.isCopyAttributes()) {
+					copyAttributes(fSource, fTarget, fAttributes);
+				}
+				if (fOptions.isMove()) {
+					Files.delete(fSource);
+				}
+				fDirectoryCount.increment();
+			} catch (IOException ex) {
+				fFailures.put(fSource, ex);
+			}
+		}
+	}
+
+	private class FileBatchTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Path fTarget;
+		private final List<Path> fFiles;
+
+		private FileBatchTask(Path target, List<Path> files) {
+			fTarget = target;
+			fFiles = files;
+		}
+
+		@Override
+		protected void compute() {
+			for (Path path : fFiles) {
+				BasicFileAttributes attributes;
+				try {
+					attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+				} catch (IOException ex) {
+					fFailures.put(path, ex);
+					continue;
+				}
+				copyFile(path, fTarget.resolve(path.getFileName().toString()), attributes);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.io;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+class TreeDeleter {
+
+	private static final int SURPLUS_TASK_THRESHOLD = 3;
+
+	private final LongAdder fFileCount = new LongAdder();
+	private final LongAdder fDirectoryCount = new LongAdder();
+	private final LongAdder fByteCount = new LongAdder();
+	private final Map<Path, IOException> fFailures = new ConcurrentHashMap<>();
+
+	private TreeDeleter() {}
+
+	static DeleteResult delete(Path path, ForkJoinPool pool) {
+		TreeDeleter deleter = new TreeDeleter();
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+		} catch (NoSuchFileException ignore) {
+			return deleter.toResult();
+		} catch (IOException ex) {
+			deleter.fFailures.put(path, ex);
+			return deleter.toResult();
+		}
+
+		if (attributes.isDirectory()) {
+			pool.invoke(deleter.new DeleteTask(path));
+		} else {
+			deleter.deleteFile(path, attributes);
+		}
+		return deleter.toResult();
+	}
+
+	private DeleteResult toResult() {
+		return new DeleteResult(fFileCount.sum(), fDirectoryCount.sum(), fByteCount.sum(), fFailures);
+	}
+
+	private void deleteFile(Path path, BasicFileAttributes attributes) {
+		try {
+			Files.delete(path);
+			fFileCount.increment();
+			fByteCount.add(attributes.size());
+		} catch (NoSuchFileException ignore) {
+		} catch (IOException ex) {
+			fFailures.put(path, ex);
+		}
+	}
+
+	private void deleteDirectory(Path path) {
+		try {
+			Files.delete(path);
+			fDirectoryCount.increment();
+		} catch (NoSuchFileException ignore) {
+		} catch (IOException ex) {
+			fFailures.put(path, ex);
+		}
+	}
+
+	private void walk(Path directory) {
+		try {
+			Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+					deleteFile(file, attrs);
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFileFailed(Path file, IOException exc) {
+					if (!(exc instanceof NoSuchFileException)) {
+						fFailures.put(file, exc);
+					}
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+					if (exc != null && !(exc instanceof NoSuchFileException)) {
+						fFailures.put(dir, exc);
+					}
+					deleteDirectory(dir);
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		} catch (IOException ex) {
+			fFailures.put(directory, ex);
+		}
+	}
+
+	private class DeleteTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Path fDirectory;
+
+		private DeleteTask(Path directory) {
+			fDirectory = directory;
+		}
+
+		@Override
+		protected void compute() {
+			if (getSurplusQueuedTaskCount() > SURPLUS_TASK_THRESHOLD) {
+				walk(fDirectory);
+				return;
+			}
+
+			List<DeleteTask> tasks = new ArrayList<>();
+			try (DirectoryStream<Path> stream = Files.newDirectoryStream(fDirectory)) {
+				for (Path path : stream) {
+					BasicFileAttributes attributes;
+					try {
+						attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+					} catch (NoSuchFileException ignore) {
+						continue;
+					} catch (IOException ex) {
+						fFailures.put(path, ex);
+						continue;
+					}
+
+					if (attributes.isDirectory()) {
+						DeleteTask task = new DeleteTask(path);
+						task.fork();
+						tasks.add(task);
+					} else {
+						deleteFile(path, attributes);
+					}
+				}
+			} catch (NoSuchFileException ignore) {
+				return;
+			} catch (IOException ex) {
+				fFailures.put(fDirectory, ex);
+			} finally {
+				for (DeleteTask task : tasks) {
+					task.join();
+				}
+			}
+
+			deleteDirectory(fDirectory);
+		}
+	}
+
+}
@@ -26,11 +26,27 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.mintjams.tools.io.BufferPool;
+import org.mintjams.tools.io.IOs;
 
 public class Strings {
 
+	private static final long MAPPING_THRESHOLD = 1L << 20;
+	private static final long MAX_MAPPING_SIZE = 1L << 30;
+	private static final int MAX_STRING_LENGTH = Integer.MAX_VALUE - 8;
+	private static final int MAX_SIZE_HINT = 1 << 20;
+
 	private Strings() {}
 
 	public static boolean isEmpty(String value) {
@@ -98,20 +114,83 @@ public class Strings {
 	}
 
 	public static String readAll(InputStream stream, Charset charset) throws IOException {
-		return readAll(new InputStreamReader(stream, charset));
+		return readAll(new InputStreamReader(stream, charset), Math.min(Math.max(stream.available(), 16), MAX_SIZE_HINT));
+	}
+
+	public static String readAll(Path path, String charsetName) throws IOException {
+		return readAll(path, Charset.forName(charsetName));
+	}
+
+	public static String readAll(Path path, Charset charset) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < MAPPING_THRESHOLD) {
+				return new String(IOs.toByteArray(Channels.newInputStream(channel)), charset);
+			}
+
+			CharsetDecoder decoder = charset.newDecoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			CharBuffer out = CharBuffer.allocate((int) Math.min(MAX_STRING_LENGTH, (long) Math.ceil(size * (double) decoder.averageCharsPerByte())));
+			for (long position = 0;;) {
+				long length = Math.min(size - position, MAX_MAPPING_SIZE);
+				ByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+				boolean endOfInput = (position + length == size);
+				for (;;) {
+					CoderResult result = decoder.decode(in, out, endOfInput);
+					if (result.isUnderflow()) {
+						break;
+					}
+					if (result.isOverflow()) {
+						out = grow(out);
+						continue;
+					}
+					result.throwException();
+				}
+				position += in.position();
+				if (endOfInput) {
+					break;
+				}
+			}
+			while (decoder.flush(out).isOverflow()) {
+				out = grow(out);
+			}
+			return out.flip().toString();
+		}
+	}
+
+	private static CharBuffer grow(CharBuffer buffer) {
+		if (buffer.capacity() == MAX_STRING_LENGTH) {
+			throw new IllegalStateException("Required array size too large.");
+		}
+
+		CharBuffer newBuffer = CharBuffer.allocate((int) Math.min(MAX_STRING_LENGTH, buffer.capacity() * 2L + 16));
+		buffer.flip();
+		newBuffer.put(buffer);
+		return newBuffer;
 	}
 
 	public static String readAll(Reader reader) throws IOException {
+		return readAll(reader, 16);
+	}
+
+	private static String readAll(Reader reader, int sizeHint) throws IOException {
 		try (reader) {
-			StringWriter out = new StringWriter();
-			for (char[] buf = new char[8192];;) {
-				int length = reader.read(buf);
-				if (length == -1) {
-					break;
+			BufferPool pool = IOs.getBufferPool();
+			char[] buf = pool.acquireCharArray();
+			try {
+				StringBuilder out = new StringBuilder(sizeHint);
+				for (;;) {
+					int length = reader.read(buf);
+					if (length == -1) {
+						break;
+					}
+					out.append(buf, 0, length);
 				}
-				out.write(buf, 0, length);
+				return out.toString();
+			} finally {
+				pool.release(buf);
 			}
-			return out.toString();
 		}
 	}
 
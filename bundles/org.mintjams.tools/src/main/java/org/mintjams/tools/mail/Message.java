@@ -25,13 +25,13 @@ package org.mintjams.tools.mail;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.Reader;
-import java.io.StringWriter;
+import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
@@ -41,6 +41,7 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,11 +52,13 @@ import javax.activation.DataHandler;
 import javax.mail.Address;
 import javax.mail.BodyPart;
 import javax.mail.Flags;
+import javax.mail.Folder;
 import javax.mail.Message.RecipientType;
 import javax.mail.MessagingException;
 import javax.mail.Multipart;
 import javax.mail.Part;
 import javax.mail.Session;
+import javax.mail.UIDFolder;
 import javax.mail.internet.AddressException;
 import javax.mail.internet.ContentType;
 import javax.mail.internet.InternetAddress;
@@ -69,21 +72,27 @@ import javax.mail.internet.MimeUtility;
 import org.mintjams.tools.internal.mail.Charsets;
 import org.mintjams.tools.internal.mail.InputStreamDataSource;
 import org.mintjams.tools.internal.mail.SessionBuilder;
+import org.mintjams.tools.io.ByteArrayBuilder;
 import org.mintjams.tools.io.Closer;
+import org.mintjams.tools.io.IOs;
+import org.mintjams.tools.lang.Strings;
 
 public class Message implements Closeable {
 
 	private final Closer fCloser = Closer.create();
 	private MimeMessage fMessage;
 	private MimeHeaders fMimeHeaders;
+	private final Map<String, Part> fContentParts = new HashMap<>();
 	private final Map<String, String> fContents = new HashMap<>();
 	private final List<Part> fParts = new ArrayList<>();
+	private boolean fPrepared;
 	private Integer fMessageNumber;
+	private int fAttachmentMemoryThreshold = InputStreamDataSource.DEFAULT_MEMORY_THRESHOLD;
 
 	private Message(MimeMessage message) throws MessagingException, IOException {
 		fMessage = message;
 		fMimeHeaders = null;
-		prepare(fMessage);
+		fPrepared = false;
 	}
 
 	public static Message create() throws MessagingException, IOException {
@@ -182,27 +191,29 @@ public class Message implements Closeable {
 			return (String) v;
 		}
 		if (v instanceof InputStream) {
-			try (Reader in = new InputStreamReader((InputStream) v, Charsets.from(part))) {
-				StringWriter out = new StringWriter();
-				char[] buffer = new char[8192];
-				for (;;) {
-					int length = in.read(buffer);
-					if (length == -1) {
-						break;
-					}
-					out.write(buffer, 0, length);
-				}
-				return out.toString();
-			}
+			return Strings.readAll((InputStream) v, Charsets.from(part));
 		}
 		return "";
 	}
 
+	private List<Part> getParts() throws MessagingException {
+		if (!fPrepared) {
+			try {
+				prepare(fMessage);
+			} catch (IOException ex) {
+				throw (MessagingException) new MessagingException(ex.getMessage()).initCause(ex);
+			}
+			fPrepared = true;
+		}
+		return fParts;
+	}
+
 	private void prepare(Part part) throws MessagingException, IOException {
 		String contentType = defaultString(part.getContentType());
 
 		if (part instanceof MimeMessage) {
 			fParts.clear();
+			fContentParts.clear();
 			fContents.clear();
 		}
 
@@ -217,11 +228,8 @@ public class Message implements Closeable {
 				type.setParameter("charset", Charsets.from(part));
 				part.setHeader("Content-Type", type.toString());
 			}
-			if ("8bit".equals(getContentTransferEncoding(part))) {
-				fContents.put(type.getBaseType(), decodeText(getContentAsString(part)));
-			} else {
-				fContents.put(type.getBaseType(), getContentAsString(part));
-			}
+			fContentParts.put(type.getBaseType(), part);
+			fContents.remove(type.getBaseType());
 
 			fParts.add(part);
 			return;
@@ -317,7 +325,7 @@ public class Message implements Closeable {
 			fMessage.setHeader("Content-Transfer-Encoding", encoding);
 		}
 
-		prepare(fMessage);
+		fPrepared = false;
 	}
 
 	private java.util.Date[] listDates() throws MessagingException {
@@ -409,6 +417,14 @@ public class Message implements Closeable {
 		return this;
 	}
 
+	public long getUID() throws MessagingException {
+		Folder folder = fMessage.getFolder();
+		if (!(folder instanceof UIDFolder)) {
+			return -1;
+		}
+		return ((UIDFolder) folder).getUID(fMessage);
+	}
+
 	public String getMessageID() throws MessagingException {
 		String[] values = getMimeHeaders().getDecoded("Message-ID");
 		if (values == null) {
@@ -633,13 +649,28 @@ public class Message implements Closeable {
 	}
 
 	public String getContent(String mimeType) throws MessagingException, IOException {
-		return fContents.get(mimeType);
+		getParts();
+		String content = fContents.get(mimeType);
+		if (content == null) {
+			Part part = fContentParts.get(mimeType);
+			if (part == null) {
+				return null;
+			}
+
+			if ("8bit".equals(getContentTransferEncoding(part))) {
+				content = decodeText(getContentAsString(part));
+			} else {
+				content = getContentAsString(part);
+			}
+			fContents.put(mimeType, content);
+		}
+		return content;
 	}
 
 	public Message setContent(String value, String mimeType) throws MessagingException, IOException {
 		List<Part> contentParts = new ArrayList<>();
 		List<Part> attachmentParts = new ArrayList<>();
-		for (Part p : fParts) {
+		for (Part p : getParts()) {
 			if (Part.ATTACHMENT.equalsIgnoreCase(p.getDisposition())) {
 				attachmentParts.add(p);
 				continue;
@@ -673,43 +704,64 @@ public class Message implements Closeable {
 		return this;
 	}
 
+	public int getAttachmentMemoryThreshold() {
+		return fAttachmentMemoryThreshold;
+	}
+
+	public Message setAttachmentMemoryThreshold(int memoryThreshold) {
+		if (memoryThreshold < 0) {
+			throw new IllegalArgumentException("Invalid memory threshold: " + memoryThreshold);
+		}
+
+		fAttachmentMemoryThreshold = memoryThreshold;
+		return this;
+	}
+
 	public Message addAttachment(InputStream stream, String filename, String mimeType) throws MessagingException, IOException {
 		try (stream) {
-			List<Part> contentParts = new ArrayList<>();
-			List<Part> attachmentParts = new ArrayList<>();
-			for (Part p : fParts) {
-				if (Part.ATTACHMENT.equalsIgnoreCase(p.getDisposition())) {
-					if (!filename.equalsIgnoreCase(new AttachmentImpl(p).getFilename())) {
-						attachmentParts.add(p);
-					}
-					continue;
-				}
+			return addAttachment(new InputStreamDataSource(stream, filename, mimeType, fAttachmentMemoryThreshold));
+		}
+	}
 
-				contentParts.add(p);
+	public Message addAttachment(byte[] content, String filename, String mimeType) throws MessagingException, IOException {
+		return addAttachment(new InputStreamDataSource(content, filename, mimeType));
+	}
+
+	private Message addAttachment(InputStreamDataSource ds) throws MessagingException, IOException {
+		fCloser.add(ds);
+
+		String filename = ds.getName();
+		List<Part> contentParts = new ArrayList<>();
+		List<Part> attachmentParts = new ArrayList<>();
+		for (Part p : getParts()) {
+			if (Part.ATTACHMENT.equalsIgnoreCase(p.getDisposition())) {
+				if (!filename.equalsIgnoreCase(new AttachmentImpl(p).getFilename())) {
+					attachmentParts.add(p);
+				}
+				continue;
 			}
 
-			InputStreamDataSource ds = new InputStreamDataSource(stream, filename, mimeType);
-			fCloser.add(ds);
+			contentParts.add(p);
+		}
 
-			MimeBodyPart p = new MimeBodyPart();
-			p.setDataHandler(new DataHandler(ds));
-			p.setDisposition(Part.ATTACHMENT);
-			p.setFileName(MimeUtility.encodeWord(filename, getCharset(), "B"));
-			p.setHeader("Content-Type", mimeType);
-			p.setHeader("Content-Transfer-Encoding", "base64");
-			attachmentParts.add(p);
-			attachmentParts.sort(new AttachmentPartComparator());
+		MimeBodyPart p = new MimeBodyPart();
+		p.setDataHandler(new DataHandler(ds));
+		p.setDisposition(Part.ATTACHMENT);
+		p.setFileName(MimeUtility.encodeWord(filename, getCharset(), "B"));
+		p.setHeader("Content-Type", ds.getContentType());
+		p.setHeader("Content-Transfer-Encoding", "base64");
+		attachmentParts.add(p);
+		attachmentParts.sort(new AttachmentPartComparator());
 
-			replaceContent(contentParts, attachmentParts);
+		replaceContent(contentParts, attachmentParts);
 
-			return this;
-		}
+		return this;
 	}
 
 	public Message removeAttachment(String filename) throws MessagingException, IOException {
 		List<Part> contentParts = new ArrayList<>();
 		List<Part> attachmentParts = new ArrayList<>();
-		for (Part p : fParts) {
+		for (Part p : getParts()) {
 			if (Part.ATTACHMENT.equalsIgnoreCase(p.getDisposition())) {
 				if (!filename.equalsIgnoreCase(new AttachmentImpl(p).getFilename())) {
 					attachmentParts.add(p);
@@ -727,7 +779,7 @@ public class Message implements Closeable {
 
 	public Attachment[] getAttachments() throws MessagingException {
 		List<Attachment> l = new ArrayList<>();
-		for (Part p : fParts) {
+		for (Part p : getParts()) {
 			if (!Part.ATTACHMENT.equalsIgnoreCase(p.getDisposition())) {
 				continue;
 			}
@@ -738,11 +790,12 @@ public class Message implements Closeable {
 	}
 
 	public boolean hasContent(String mimeType) throws MessagingException {
-		return fContents.containsKey(mimeType);
+		getParts();
+		return fContentParts.containsKey(mimeType);
 	}
 
 	public boolean hasAttachments() throws MessagingException {
-		for (Part p : fParts) {
+		for (Part p : getParts()) {
 			if (Part.ATTACHMENT.equalsIgnoreCase(p.getDisposition())) {
 				return true;
 			}
@@ -903,14 +956,7 @@ public class Message implements Closeable {
 		@Override
 		public void writeTo(OutputStream out) throws MessagingException, IOException {
 			try (InputStream in = getInputStream()) {
-				byte[] buf = new byte[8192];
-				for (;;) {
-					int size = in.read(buf);
-					if (size == -1) {
-						break;
-					}
-					out.write(buf, 0, size);
-				}
+				IOs.copy(in, out);
 				out.flush();
 			}
 		}
@@ -966,71 +1012,67 @@ public class Message implements Closeable {
 		private final Map<String, List<String>> fHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
 
 		public MimeHeaders() throws MessagingException {
-			Path path = null;
-			try {
-				path = Files.createTempFile("mime-", null);
-
-				try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
-					fMessage.writeTo(out);
-				}
+			try (BufferedReader in = newHeaderReader()) {
+				String line = in.readLine();
+				for (;;) {
+					if (line == null || line.trim().isEmpty()) {
+						break;
+					}
 
-				try (BufferedReader in = newBufferedReader(path)) {
-					String line = in.readLine();
+					int i = line.indexOf(":");
+					String name = line.substring(0, i);
+					String value = line.substring(i + 1);
+					if (!value.isEmpty() && (value.charAt(0) == ' ' || value.charAt(0) == '\t')) {
+						value = value.substring(1);
+					}
+					StringBuilder buf = new StringBuilder();
+					buf.append(value);
 					for (;;) {
+						line = in.readLine();
 						if (line == null || line.trim().isEmpty()) {
 							break;
 						}
-
-						int i = line.indexOf(":");
-						String name = line.substring(0, i);
-						String value = line.substring(i + 1);
-						if (!value.isEmpty() && (value.charAt(0) == ' ' || value.charAt(0) == '\t')) {
-							value = value.substring(1);
-						}
-						StringBuilder buf = new StringBuilder();
-						buf.append(value);
-						for (;;) {
-							line = in.readLine();
-							if (line == null || line.trim().isEmpty()) {
-								break;
-							}
-							if (!(line.charAt(0) == ' ' || line.charAt(0) == '\t')) {
-								break;
-							}
-							buf.append(line.substring(1));
+						if (!(line.charAt(0) == ' ' || line.charAt(0) == '\t')) {
+							break;
 						}
-						addEncoded(name, buf.toString());
+						buf.append(line.substring(1));
 					}
+					addEncoded(name, buf.toString());
 				}
 			} catch (IOException ex) {
 				throw (MessagingException) new MessagingException(ex.getMessage()).initCause(ex);
-			} finally {
-				try {
-					Files.deleteIfExists(path);
-				} catch (Throwable ignore) {}
 			}
 		}
 
-		private BufferedReader newBufferedReader(Path path) throws MessagingException, IOException {
-			InputStream in = null;
+		private BufferedReader newHeaderReader() throws MessagingException, IOException {
+			if (fMessage.getFolder() != null) {
+				StringBuilder buf = new StringBuilder();
+				for (Enumeration<String> e = fMessage.getAllHeaderLines(); e.hasMoreElements();) {
+					buf.append(e.nextElement()).append("\r\n");
+				}
+				return new BufferedReader(new StringReader(buf.toString()));
+			}
+
+			HeaderOutputStream out = new HeaderOutputStream();
 			try {
-				in = new BufferedInputStream(Files.newInputStream(path));
-				in.mark(3);
-				if (in.available() >= 3) {
-					byte[] buffer = new byte[3];
-					in.read(buffer);
-					if (!(buffer[0] == (byte) 0xEF && buffer[1] == (byte) 0xBB && buffer[2] == (byte) 0xBF)) {
-						in.reset();
-					}
+				fMessage.writeTo(out);
+			} catch (HeaderEndException ignore) {
+			} catch (MessagingException ex) {
+				if (!(ex.getCause() instanceof HeaderEndException)) {
+					throw ex;
 				}
-			} catch (Throwable ex) {
-				try {
-					in.close();
-				} catch (Throwable ignore) {}
-				if (ex instanceof IOException) {
-					throw (IOException) ex;
+			}
+			return newBufferedReader(out.getInputStream());
+		}
+
+		private BufferedReader newBufferedReader(InputStream in) throws MessagingException, IOException {
+			in.mark(3);
+			if (in.available() >= 3) {
+				byte[] buffer = new byte[3];
+				in.read(buffer);
+				if (!(buffer[0] == (byte) 0xEF && buffer[1] == (byte) 0xBB && buffer[2] == (byte) 0xBF)) {
+					in.reset();
 				}
-				throw (IOException) new IOException(ex.getMessage()).initCause(ex);
 			}
 			return new BufferedReader(new InputStreamReader(in, Charset.forName(getCharset())));
 		}
@@ -1128,6 +1170,49 @@ public class Message implements Closeable {
 		}
 	}
 
+	private static class HeaderOutputStream extends OutputStream {
+		private final ByteArrayBuilder fBuffer = new ByteArrayBuilder(4096);
+		private int fLast = '\n';
+		private int fSecondLast;
+
+		@Override
+		public void write(int b) throws IOException {
+			fBuffer.write(b);
+			b &= 0xff;
+			boolean end = (b == '\n' && (fLast == '\n' || (fLast == '\r' && fSecondLast == '\n')));
+			fSecondLast = fLast;
+			fLast = b;
+			if (end) {
+				throw new HeaderEndException();
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			Objects.checkFromIndexSize(off, len, b.length);
+			for (int i = 0; i < len; i++) {
+				write(b[off + i]);
+			}
+		}
+
+		private InputStream getInputStream() {
+			return new ByteArrayInputStream(fBuffer.toByteArray());
+		}
+	}
+
+	private static class HeaderEndException extends IOException {
+		private static final long serialVersionUID = 1L;
+
+		private HeaderEndException() {
+			super("End of headers.");
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+	}
+
 	private class MimeCache implements Closeable {
 		private final Path fPath;
 
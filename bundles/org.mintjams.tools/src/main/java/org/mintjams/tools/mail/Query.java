@@ -26,31 +26,49 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
+import javax.mail.FetchProfile;
 import javax.mail.Folder;
 import javax.mail.MessagingException;
 import javax.mail.Session;
 import javax.mail.Store;
+import javax.mail.UIDFolder;
 import javax.mail.search.SearchTerm;
 
+import org.mintjams.tools.internal.mail.CondStore;
+import org.mintjams.tools.internal.mail.FetchProfiles;
 import org.mintjams.tools.internal.mail.QueryFilter;
 import org.mintjams.tools.internal.mail.SessionBuilder;
 import org.mintjams.tools.io.Closer;
 
 public class Query {
 
+	public static final int DEFAULT_FETCH_WINDOW = 100;
+
 	private final URI fURI;
 	private final String fUsername;
 	private final String fPassword;
 	private final SearchTerm fSearchTerm;
+	private final int fFetchWindow;
+	private final String[] fFetchHeaders;
+	private final SyncCheckpoint fCheckpoint;
+	private final boolean fCondStore;
 
 	private Query(Builder builder) throws URISyntaxException {
 		fURI = new URI(builder.fURI);
 		fUsername = builder.fUsername;
 		fPassword = builder.fPassword;
 		fSearchTerm = builder.fSearchTerm;
+		fFetchWindow = builder.fFetchWindow;
+		fFetchHeaders = builder.fFetchHeaders.clone();
+		fCheckpoint = builder.fCheckpoint;
+		fCondStore = builder.fCondStore;
 	}
 
 	public Result execute() throws MessagingException {
@@ -65,6 +83,20 @@ public class Query {
 		}
 	}
 
+	private FetchProfile newFetchProfile(Folder folder) {
+		FetchProfile fp = new FetchProfile();
+		fp.add(FetchProfile.Item.ENVELOPE);
+		fp.add(FetchProfile.Item.FLAGS);
+		fp.add(FetchProfile.Item.CONTENT_INFO);
+		fp.add(UIDFolder.FetchProfileItem.UID);
+		if (!FetchProfiles.addAllHeaders(fp, folder)) {
+			for (String header : fFetchHeaders) {
+				fp.add(header);
+			}
+		}
+		return fp;
+	}
+
 	private Store getStore(Session session) throws MessagingException {
 		String protocol = fURI.getScheme().toLowerCase();
 		Store store = session.getStore(protocol);
@@ -139,6 +171,34 @@ public class Query {
 			return this;
 		}
 
+		private int fFetchWindow = DEFAULT_FETCH_WINDOW;
+		public Builder setFetchWindow(int fetchWindow) {
+			if (fetchWindow < 1) {
+				throw new IllegalArgumentException("Invalid fetch window: " + fetchWindow);
+			}
+			fFetchWindow = fetchWindow;
+			return this;
+		}
+
+		private String[] fFetchHeaders = new String[0];
+		public Builder setFetchHeaders(String... headers) {
+			Objects.requireNonNull(headers);
+			fFetchHeaders = headers.clone();
+			return this;
+		}
+
+		private SyncCheckpoint fCheckpoint;
+		public Builder setCheckpoint(SyncCheckpoint checkpoint) {
+			fCheckpoint = checkpoint;
+			return this;
+		}
+
+		private boolean fCondStore;
+		public Builder setCondStore(boolean condStore) {
+			fCondStore = condStore;
+			return this;
+		}
+
 		public Query build() throws URISyntaxException {
 			Objects.requireNonNull(fURI);
 			return new Query(this);
@@ -147,6 +207,20 @@ public class Query {
 
 	public interface Result extends Iterable<Message>, Closeable {
 		int getSize();
+
+		int getFetchWindow();
+
+		long getFetchCount();
+
+		long getFetchedMessageCount();
+
+		long getFetchTime(TimeUnit unit);
+
+		SyncCheckpoint getCheckpoint();
+
+		boolean isReset();
+
+		Message[] getChangedMessages();
 	}
 
 	private class ResultImpl implements Result {
@@ -154,8 +228,20 @@ public class Query {
 		private final Session fSession;
 		private final Folder fFolder;
 		private final javax.mail.Message[] fMessages;
+		private final FetchProfile fFetchProfile;
+		private javax.mail.Message[] fWindow = new javax.mail.Message[0];
+		private int fWindowIndex = 0;
 		private javax.mail.Message fNextMessage;
 		private int fNumber = 0;
+		private long fFetchCount = 0;
+		private long fFetchedMessageCount = 0;
+		private long fFetchNanos = 0;
+		private long fUIDValidity = -1;
+		private long fLastUID = 0;
+		private long fLastNewUID = 0;
+		private long fHighestModSeq = -1;
+		private boolean fReset = false;
+		private javax.mail.Message[] fChangedMessages = new javax.mail.Message[0];
 
 		private Iterator<Message> fIterator = new Iterator<Message>() {
 			@Override
@@ -166,6 +252,9 @@ public class Query {
 			@Override
 			public Message next() {
 				try {
+					if (fCheckpoint != null) {
+						fLastUID = Math.max(fLastUID, ((UIDFolder) fFolder).getUID(fNextMessage));
+					}
 					return Message.from(fNextMessage);
 				} catch (MessagingException | IOException ex) {
 					throw (IllegalStateException) new IllegalStateException(ex.getMessage()).initCause(ex);
@@ -186,27 +275,104 @@ public class Query {
 			}
 			fFolder = store.getFolder(path);
 			fCloser.add(asCloseable(fFolder));
-			fFolder.open(Folder.READ_WRITE);
+			boolean condStore = (fCondStore && CondStore.isSupported(fFolder));
+			if (condStore) {
+				CondStore.open(fFolder, Folder.READ_WRITE);
+			} else {
+				fFolder.open(Folder.READ_WRITE);
+			}
 
-			if (fSearchTerm != null) {
+			if (fCheckpoint != null) {
+				fMessages = synchronize(path, condStore);
+			} else if (fSearchTerm != null) {
 				fMessages = fFolder.search(fSearchTerm);
 			} else {
 				fMessages = null;
 			}
+			fFetchProfile = newFetchProfile(fFolder);
+			if (fChangedMessages.length > 0) {
+				fFolder.fetch(fChangedMessages, fFetchProfile);
+			}
 			fNextMessage = getNextMessage();
 		}
 
+		private javax.mail.Message[] synchronize(String path, boolean condStore) throws MessagingException {
+			if (!(fFolder instanceof UIDFolder)) {
+				throw new MessagingException("UIDs are not supported: " + path);
+			}
+
+			UIDFolder folder = (UIDFolder) fFolder;
+			fUIDValidity = folder.getUIDValidity();
+			fReset = (fCheckpoint != SyncCheckpoint.NONE && !fCheckpoint.isValidFor(fUIDValidity));
+			fLastUID = fReset ? 0 : fCheckpoint.getLastUID();
+			if (condStore) {
+				fHighestModSeq = CondStore.getHighestModSeq(fFolder);
+				if (!fReset && fLastUID > 0 && fCheckpoint.hasHighestModSeq() && fHighestModSeq > fCheckpoint.getHighestModSeq()) {
+					fChangedMessages = CondStore.getMessagesChangedSince(fFolder, fLastUID, fCheckpoint.getHighestModSeq());
+				}
+			}
+
+			List<javax.mail.Message> l = new ArrayList<>();
+			for (javax.mail.Message message : folder.getMessagesByUID(fLastUID + 1, UIDFolder.LASTUID)) {
+				if (message == null) {
+					continue;
+				}
+				long uid = folder.getUID(message);
+				if (uid > fLastUID) {
+					l.add(message);
+					fLastNewUID = Math.max(fLastNewUID, uid);
+				}
+			}
+			javax.mail.Message[] messages = l.toArray(javax.mail.Message[]::new);
+			if (fSearchTerm != null && messages.length > 0) {
+				messages = fFolder.search(fSearchTerm, messages);
+			}
+			return messages;
+		}
+
 		private javax.mail.Message getNextMessage() {
-			if (fMessages == null) {
-				try {
-					return fFolder.getMessage(++fNumber);
-				} catch (Throwable ignore) {}
-			} else {
-				if (fNumber < fMessages.length) {
-					return fMessages[fNumber++];
+			if (fWindowIndex >= fWindow.length) {
+				fWindow = nextWindow();
+				fWindowIndex = 0;
+				if (fWindow.length == 0) {
+					fLastUID = Math.max(fLastUID, fLastNewUID);
+					return null;
 				}
 			}
-			return null;
+			return fWindow[fWindowIndex++];
+		}
+
+		private javax.mail.Message[] nextWindow() {
+			javax.mail.Message[] messages;
+			try {
+				if (fMessages == null) {
+					int count = fFolder.getMessageCount();
+					if (fNumber >= count) {
+						return new javax.mail.Message[0];
+					}
+					int end = (int) Math.min((long) fNumber + fFetchWindow, count);
+					messages = fFolder.getMessages(fNumber + 1, end);
+					fNumber = end;
+				} else {
+					if (fNumber >= fMessages.length) {
+						return new javax.mail.Message[0];
+					}
+					int end = (int) Math.min((long) fNumber + fFetchWindow, fMessages.length);
+					messages = Arrays.copyOfRange(fMessages, fNumber, end);
+					fNumber = end;
+				}
+			} catch (Throwable ignore) {
+				return new javax.mail.Message[0];
+			}
+
+			long start = System.nanoTime();
+			try {
+				fFolder.fetch(messages, fFetchProfile);
+			} catch (Throwable ignore) {}
+			fFetchNanos += System.nanoTime() - start;
+			fFetchCount++;
+			fFetchedMessageCount += messages.length;
+			return messages;
 		}
 
 		@Override
@@ -219,6 +385,52 @@ public class Query {
 			return fMessages.length;
 		}
 
+		@Override
+		public int getFetchWindow() {
+			return fFetchWindow;
+		}
+
+		@Override
+		public long getFetchCount() {
+			return fFetchCount;
+		}
+
+		@Override
+		public long getFetchedMessageCount() {
+			return fFetchedMessageCount;
+		}
+
+		@Override
+		public long getFetchTime(TimeUnit unit) {
+			return unit.convert(fFetchNanos, TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public SyncCheckpoint getCheckpoint() {
+			if (fCheckpoint == null) {
+				return null;
+			}
+			return SyncCheckpoint.of(fUIDValidity, fLastUID, fHighestModSeq);
+		}
+
+		@Override
+		public boolean isReset() {
+			return fReset;
+		}
+
+		@Override
+		public Message[] getChangedMessages() {
+			List<Message> l = new ArrayList<>();
+			for (javax.mail.Message message : fChangedMessages) {
+				try {
+					l.add(Message.from(message));
+				} catch (MessagingException | IOException ex) {
+					throw (IllegalStateException) new IllegalStateException(ex.getMessage()).initCause(ex);
+				}
+			}
+			return l.toArray(Message[]::new);
+		}
+
 		@Override
 		public Iterator<Message> iterator() {
 			return fIterator;
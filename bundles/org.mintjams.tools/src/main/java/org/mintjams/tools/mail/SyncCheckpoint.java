@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.mail;
+
+import java.util.Objects;
+
+public final class SyncCheckpoint {
+
+	public static final SyncCheckpoint NONE = new SyncCheckpoint(-1, 0, -1);
+
+	private final long fUIDValidity;
+	private final long fLastUID;
+	private final long fHighestModSeq;
+
+	private SyncCheckpoint(long uidValidity, long lastUID, long highestModSeq) {
+		fUIDValidity = uidValidity;
+		fLastUID = lastUID;
+		fHighestModSeq = highestModSeq;
+	}
+
+	public static SyncCheckpoint of(long uidValidity, long lastUID) {
+		return of(uidValidity, lastUID, -1);
+	}
+
+	public static SyncCheckpoint of(long uidValidity, long lastUID, long highestModSeq) {
+		if (uidValidity < 1) {
+			throw new IllegalArgumentException("Invalid UIDVALIDITY: " + uidValidity);
+		}
+		if (lastUID < 0) {
+			throw new IllegalArgumentException("Invalid UID: " + lastUID);
+		}
+		if (highestModSeq < -1) {
+			throw new IllegalArgumentException("Invalid MODSEQ: " + highestModSeq);
+		}
+		return new SyncCheckpoint(uidValidity, lastUID, highestModSeq);
+	}
+
+	public static SyncCheckpoint parse(String value) {
+		Objects.requireNonNull(value);
+		String[] values = value.trim().split(":");
+		if (values.length != 3) {
+			throw new IllegalArgumentException("Invalid checkpoint: " + value);
+		}
+
+		long uidValidity;
+		long lastUID;
+		long highestModSeq;
+		try {
+			uidValidity = Long.parseLong(values[0]);
+			lastUID = Long.parseLong(values[1]);
+			highestModSeq = Long.parseLong(values[2]);
+		} catch (NumberFormatException ex) {
+			throw (IllegalArgumentException) new IllegalArgumentException("Invalid checkpoint: " + value).initCause(ex);
+		}
+		if (uidValidity == -1 && lastUID == 0 && highestModSeq == -1) {
+			return NONE;
+		}
+		return of(uidValidity, lastUID, highestModSeq);
+	}
+
+	public long getUIDValidity() {
+		return fUIDValidity;
+	}
+
+	public long getLastUID() {
+		return fLastUID;
+	}
+
+	public long getHighestModSeq() {
+		return fHighestModSeq;
+	}
+
+	public boolean hasHighestModSeq() {
+		return (fHighestModSeq >= 0);
+	}
+
+	public boolean isValidFor(long uidValidity) {
+		return (fUIDValidity == uidValidity);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(fUIDValidity, fLastUID, fHighestModSeq);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof SyncCheckpoint)) {
+			return false;
+		}
+		SyncCheckpoint other = (SyncCheckpoint) obj;
+		return (fUIDValidity == other.fUIDValidity && fLastUID == other.fLastUID && fHighestModSeq == other.fHighestModSeq);
+	}
+
+	@Override
+	public String toString() {
+		return fUIDValidity + ":" + fLastUID + ":" + fHighestModSeq;
+	}
+
+}
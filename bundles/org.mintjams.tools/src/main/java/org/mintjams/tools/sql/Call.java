@@ -36,7 +36,10 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 
+import javax.sql.DataSource;
+
 import org.mintjams.tools.collections.AdaptableMap;
+import org.mintjams.tools.collections.CaseInsensitiveMap;
 import org.mintjams.tools.internal.sql.DefaultResultHandler;
 import org.mintjams.tools.internal.sql.SQLStatement;
 import org.mintjams.tools.io.Closer;
@@ -48,6 +51,7 @@ public class Call {
 	private final String fStatement;
 	private final Map<String, Object> fVariables = new HashMap<>();
 	private final Connection fConnection;
+	private final DataSource fDataSource;
 	private final boolean fCloseConnection;
 	private final ParameterHandler fParameterHandler;
 	private ResultHandler fResultHandler;
@@ -62,17 +66,18 @@ public class Call {
 		fStatement = builder.fStatement;
 		fVariables.putAll(builder.fVariables);
 		fConnection = builder.fConnection;
+		fDataSource = builder.fDataSource;
 		fCloseConnection = builder.fCloseConnection;
 		fParameterHandler = builder.fParameterHandler;
 		fResultHandler = builder.fResultHandler;
 	}
 
-	private SQLStatement prepare() throws SQLException {
+	private SQLStatement prepare(Connection connection) throws SQLException {
 		return SQLStatement.newBuilder()
 				.setSource(fStatement)
 				.setVariables(fVariables)
 				.setCallable(true)
-				.setConnection(fConnection)
+				.setConnection(connection)
 				.setParameterHandler(fParameterHandler)
 				.build();
 	}
@@ -108,10 +113,12 @@ public class Call {
 	}
 
 	public Result execute() throws SQLException {
+		Connection connection = (fDataSource != null) ? fDataSource.getConnection() : fConnection;
+		boolean closeConnection = (fCloseConnection || fDataSource != null);
 		SQLStatement stmt = null;
 		boolean isResultSet;
 		try {
-			stmt = prepare();
+			stmt = prepare(connection);
 
 			PreparedStatement p = stmt.prepare(
 					java.sql.ResultSet.TYPE_FORWARD_ONLY,
@@ -131,9 +138,9 @@ public class Call {
 			try {
 				stmt.close();
 			} catch (Throwable ignore) {}
-			if (fCloseConnection) {
+			if (closeConnection) {
 				try {
-					fConnection.close();
+					connection.close();
 				} catch (Throwable ignore) {}
 			}
 
@@ -142,29 +149,42 @@ public class Call {
 			}
 			throw (IllegalStateException) new IllegalStateException(ex.getMessage()).initCause(ex);
 		}
-		return new ResultImpl(isResultSet, stmt);
+		return new ResultImpl(isResultSet, stmt, connection, closeConnection);
 	}
 
 	public static Builder newBuilder(Connection connection) {
 		return Builder.create(connection);
 	}
 
+	public static Builder newBuilder(DataSource dataSource) {
+		return Builder.create(dataSource);
+	}
+
 	@Deprecated
 	public static Builder newBuilder() {
-		return Builder.create(null);
+		return Builder.create((Connection) null);
 	}
 
 	public static class Builder {
 		private Connection fConnection;
+		private DataSource fDataSource;
 
 		private Builder(Connection connection) {
 			fConnection = connection;
 		}
 
+		private Builder(DataSource dataSource) {
+			fDataSource = dataSource;
+		}
+
 		public static Builder create(Connection connection) {
 			return new Builder(connection);
 		}
 
+		public static Builder create(DataSource dataSource) {
+			return new Builder(dataSource);
+		}
+
 		private String fStatement;
 		public Builder setStatement(String statement) {
 			fStatement = statement;
@@ -207,7 +227,9 @@ public class Call {
 
 		public Call build() throws SQLException {
 			Objects.requireNonNull(fStatement);
-			Objects.requireNonNull(fConnection);
+			if (fDataSource == null) {
+				Objects.requireNonNull(fConnection);
+			}
 			return new Call(this);
 		}
 	}
@@ -258,9 +280,9 @@ public class Call {
 			}
 		};
 
-		private ResultImpl(boolean isResultSet, SQLStatement stmt) throws SQLException {
-			if (fCloseConnection) {
-				fCloser.register(fConnection);
+		private ResultImpl(boolean isResultSet, SQLStatement stmt, Connection connection, boolean closeConnection) throws SQLException {
+			if (closeConnection) {
+				fCloser.register(connection);
 			}
 			fSQLStatement = fCloser.register(stmt);
 			fIsResultSet = isResultSet;
@@ -309,7 +331,7 @@ public class Call {
 					}
 				}
 			}
-			return AdaptableMap.<String, Object>newBuilder(String.CASE_INSENSITIVE_ORDER).putAll(fOutParameters).build();
+			return AdaptableMap.<Object>newCaseInsensitiveBuilder().putAll(fOutParameters).build();
 		}
 
 		@Override
@@ -329,6 +351,7 @@ public class Call {
 		private final Closer fCloser = Closer.create();
 		private boolean fHasNext;
 		private int fRow = 0;
+		private CaseInsensitiveMap.KeyTable fKeyTable;
 
 		private ResultContext fResultContext = new ResultContext() {
 			@Override
@@ -370,7 +393,10 @@ public class Call {
 				} catch (SQLException ex) {
 					throw (IllegalStateException) new IllegalStateException(ex.getMessage()).initCause(ex);
 				}
-				AdaptableMap<String, Object> result = AdaptableMap.<String, Object>newBuilder(String.CASE_INSENSITIVE_ORDER).putAll(columns).build();
+				if (fKeyTable == null) {
+					fKeyTable = CaseInsensitiveMap.KeyTable.of(columns.keySet());
+				}
+				AdaptableMap<String, Object> result = AdaptableMap.<Object>newCaseInsensitiveBuilder(fKeyTable).putAll(columns).build();
 
 				try {
 					fHasNext = fResultSet.next();
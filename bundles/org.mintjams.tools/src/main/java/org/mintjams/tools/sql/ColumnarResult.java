@@ -0,0 +1,832 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.sql;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.DoublePredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.mintjams.tools.adapter.ValueAdapterRegistry;
+import org.mintjams.tools.collections.AdaptableMap;
+import org.mintjams.tools.collections.CaseInsensitiveMap;
+
+public class ColumnarResult implements Iterable<AdaptableMap<String, Object>> {
+
+	private final String[] fColumnNames;
+	private final CaseInsensitiveMap<Integer> fColumnIndexes;
+	private final Column[] fColumns;
+	private final int fSize;
+	private final int fParallelThreshold;
+	private final ValueAdapterRegistry fValueAdapters;
+	private final Map<String, Object> fEnv;
+
+	private ColumnarResult(Builder builder) {
+		fColumnNames = builder.fColumnNames.toArray(new String[builder.fColumnNames.size()]);
+		fColumnIndexes = builder.fColumnIndexes;
+		fColumns = builder.fColumns.toArray(new Column[builder.fColumns.size()]);
+		for (Column column : fColumns) {
+			column.freeze(builder.fSize);
+		}
+		fSize = builder.fSize;
+		fParallelThreshold = builder.fParallelThreshold;
+		fValueAdapters = builder.fValueAdapters;
+		fEnv = new HashMap<>(builder.fEnv);
+	}
+
+	public int size() {
+		return fSize;
+	}
+
+	public boolean isEmpty() {
+		return (fSize == 0);
+	}
+
+	public List<String> getColumnNames() {
+		return Collections.unmodifiableList(Arrays.asList(fColumnNames));
+	}
+
+	public boolean containsColumn(String column) {
+		return fColumnIndexes.containsKey(column);
+	}
+
+	public boolean isNull(int row, String column) {
+		return getColumn(column).isNull(checkRow(row));
+	}
+
+	public Object getValue(int row, String column) {
+		return getColumn(column).get(checkRow(row));
+	}
+
+	public long getLong(int row, String column) {
+		Column c = getColumn(column);
+		checkRow(row);
+		if (c.isNull(row)) {
+			return 0;
+		}
+		if (c instanceof LongColumn) {
+			return ((LongColumn) c).getLong(row);
+		}
+		if (c instanceof DoubleColumn) {
+			return (long) ((DoubleColumn) c).getDouble(row);
+		}
+		return getRow(row).getLong(column);
+	}
+
+	public double getDouble(int row, String column) {
+		Column c = getColumn(column);
+		checkRow(row);
+		if (c.isNull(row)) {
+			return 0;
+		}
+		if (c instanceof DoubleColumn) {
+			return ((DoubleColumn) c).getDouble(row);
+		}
+		if (c instanceof LongColumn) {
+			return ((LongColumn) c).getLong(row);
+		}
+		return getRow(row).getDouble(column);
+	}
+
+	public String getString(int row, String column) {
+		Column c = getColumn(column);
+		checkRow(row);
+		if (c.isNull(row)) {
+			return null;
+		}
+		if (c instanceof StringColumn) {
+			return ((StringColumn) c).getString(row);
+		}
+		return getRow(row).getString(column);
+	}
+
+	public AdaptableMap<String, Object> getRow(int row) {
+		AdaptableMap.Builder<String, Object> builder = AdaptableMap.wrap((Map<String, Object>) new RowView(checkRow(row)))
+				.setValueAdapters(fValueAdapters);
+		for (Map.Entry<String, Object> e : fEnv.entrySet()) {
+			builder.setProperty(e.getKey(), e.getValue());
+		}
+		return builder.build();
+	}
+
+	public List<AdaptableMap<String, Object>> getRows() {
+		return new AbstractList<AdaptableMap<String, Object>>() {
+			@Override
+			public AdaptableMap<String, Object> get(int index) {
+				return getRow(index);
+			}
+
+			@Override
+			public int size() {
+				return fSize;
+			}
+		};
+	}
+
+	@Override
+	public Iterator<AdaptableMap<String, Object>> iterator() {
+		return new Iterator<AdaptableMap<String, Object>>() {
+			private int fRow;
+
+			@Override
+			public boolean hasNext() {
+				return (fRow < fSize);
+			}
+
+			@Override
+			public AdaptableMap<String, Object> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return getRow(fRow++);
+			}
+		};
+	}
+
+	public IntStream scan(String column, Predicate<Object> predicate) {
+		Column c = getColumn(column);
+		Objects.requireNonNull(predicate);
+		return rowIndexes().filter(row -> predicate.test(c.get(row)));
+	}
+
+	public IntStream scanLong(String column, LongPredicate predicate) {
+		Column c = getColumn(column);
+		Objects.requireNonNull(predicate);
+		if (c instanceof LongColumn) {
+			LongColumn longColumn = (LongColumn) c;
+			return rowIndexes().filter(row -> !longColumn.isNull(row) && predicate.test(longColumn.getLong(row)));
+		}
+		return rowIndexes().filter(row -> !c.isNull(row) && predicate.test(getLong(row, column)));
+	}
+
+	public IntStream scanDouble(String column, DoublePredicate predicate) {
+		Column c = getColumn(column);
+		Objects.requireNonNull(predicate);
+		if (c instanceof DoubleColumn) {
+			DoubleColumn doubleColumn = (DoubleColumn) c;
+			return rowIndexes().filter(row -> !doubleColumn.isNull(row) && predicate.test(doubleColumn.getDouble(row)));
+		}
+		return rowIndexes().filter(row -> !c.isNull(row) && predicate.test(getDouble(row, column)));
+	}
+
+	public IntStream scanEquals(String column, Object value) {
+		Column c = getColumn(column);
+		if (value == null) {
+			return rowIndexes().filter(c::isNull);
+		}
+		if (c instanceof StringColumn) {
+			if (!(value instanceof String)) {
+				return IntStream.empty();
+			}
+			StringColumn stringColumn = (StringColumn) c;
+			int code = stringColumn.indexOf((String) value);
+			if (code < 0) {
+				return IntStream.empty();
+			}
+			return rowIndexes().filter(row -> !stringColumn.isNull(row) && stringColumn.getCode(row) == code);
+		}
+		return rowIndexes().filter(row -> value.equals(c.get(row)));
+	}
+
+	public LongStream longs(String column) {
+		Column c = getColumn(column);
+		if (c instanceof LongColumn) {
+			LongColumn longColumn = (LongColumn) c;
+			return rowIndexes().filter(row -> !longColumn.isNull(row)).mapToLong(longColumn::getLong);
+		}
+		return rowIndexes().filter(row -> !c.isNull(row)).mapToLong(row -> getLong(row, column));
+	}
+
+	public DoubleStream doubles(String column) {
+		Column c = getColumn(column);
+		if (c instanceof DoubleColumn) {
+			DoubleColumn doubleColumn = (DoubleColumn) c;
+			return rowIndexes().filter(row -> !doubleColumn.isNull(row)).mapToDouble(doubleColumn::getDouble);
+		}
+		return rowIndexes().filter(row -> !c.isNull(row)).mapToDouble(row -> getDouble(row, column));
+	}
+
+	private IntStream rowIndexes() {
+		IntStream rows = IntStream.range(0, fSize);
+		if (fSize >= fParallelThreshold) {
+			return rows.parallel();
+		}
+		return rows;
+	}
+
+	private int checkRow(int row) {
+		if (row < 0 || row >= fSize) {
+			throw new IndexOutOfBoundsException("Index: " + row + ", Size: " + fSize);
+		}
+		return row;
+	}
+
+	private Column getColumn(String column) {
+		Integer index = fColumnIndexes.get(column);
+		if (index == null) {
+			throw new IllegalArgumentException("Invalid column: " + column);
+		}
+		return fColumns[index];
+	}
+
+	public static ColumnarResult from(Query.Result result) {
+		return newBuilder().addAll(result).build();
+	}
+
+	public static Builder newBuilder() {
+		return Builder.create();
+	}
+
+	public static class Builder {
+		private final List<String> fColumnNames = new ArrayList<>();
+		private final CaseInsensitiveMap<Integer> fColumnIndexes = new CaseInsensitiveMap<>();
+		private final List<Column> fColumns = new ArrayList<>();
+		private int fSize;
+		private boolean fOffHeap;
+		private int fParallelThreshold = 1 << 14;
+		private ValueAdapterRegistry fValueAdapters = ValueAdapterRegistry.getDefault();
+		private final Map<String, Object> fEnv = new HashMap<>();
+
+		private Builder() {}
+
+		public static Builder create() {
+			return new Builder();
+		}
+
+		public Builder setOffHeap(boolean offHeap) {
+			if (fSize > 0) {
+				throw new IllegalStateException("Rows have already been added.");
+			}
+
+			fOffHeap = offHeap;
+			return this;
+		}
+
+		public Builder setParallelThreshold(int parallelThreshold) {
+			if (parallelThreshold < 1) {
+				throw new IllegalArgumentException("Invalid parallel threshold: " + parallelThreshold);
+			}
+
+			fParallelThreshold = parallelThreshold;
+			return this;
+		}
+
+		public Builder setValueAdapters(ValueAdapterRegistry valueAdapters) {
+			fValueAdapters = Objects.requireNonNull(valueAdapters);
+			return this;
+		}
+
+		public Builder setProperty(String key, Object value) {
+			fEnv.put(key, value);
+			return this;
+		}
+
+		public Builder add(Map<String, ?> row) {
+			if (fSize == Integer.MAX_VALUE) {
+				throw new IllegalStateException("Too many rows.");
+			}
+
+			for (Map.Entry<String, ?> e : row.entrySet()) {
+				Integer index = fColumnIndexes.get(e.getKey());
+				if (index == null) {
+					index = fColumns.size();
+					fColumnNames.add(e.getKey());
+					fColumnIndexes.put(e.getKey(), index);
+					Column column = new NullColumn();
+					for (int i = 0; i < fSize; i++) {
+						column.set(i, null);
+					}
+					fColumns.add(column);
+				}
+
+				Object value = e.getValue();
+				Column column = fColumns.get(index);
+				if (value != null && !column.accepts(value)) {
+					column = column.widen(value, fSize, fOffHeap);
+					fColumns.set(index, column);
+				}
+				column.set(fSize, value);
+			}
+			if (row.size() < fColumns.size()) {
+				for (int i = 0; i < fColumns.size(); i++) {
+					if (!row.containsKey(fColumnNames.get(i))) {
+						fColumns.get(i).set(fSize, null);
+					}
+				}
+			}
+			fSize++;
+			return this;
+		}
+
+		public Builder addAll(Iterable<? extends Map<String, ?>> rows) {
+			for (Map<String, ?> row : rows) {
+				add(row);
+			}
+			return this;
+		}
+
+		public ColumnarResult build() {
+			return new ColumnarResult(this);
+		}
+	}
+
+	private class RowView extends AbstractMap<String, Object> {
+		private final int fRow;
+
+		private RowView(int row) {
+			fRow = row;
+		}
+
+		@Override
+		public int size() {
+			return fColumns.length;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return fColumnIndexes.containsKey(key);
+		}
+
+		@Override
+		public Object get(Object key) {
+			Integer index = fColumnIndexes.get(key);
+			if (index == null) {
+				return null;
+			}
+			return fColumns[index].get(fRow);
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return new AbstractSet<Entry<String, Object>>() {
+				@Override
+				public int size() {
+					return fColumns.length;
+				}
+
+				@Override
+				public Iterator<Entry<String, Object>> iterator() {
+					return new Iterator<Entry<String, Object>>() {
+						private int fIndex;
+
+						@Override
+						public boolean hasNext() {
+							return (fIndex < fColumns.length);
+						}
+
+						@Override
+						public Entry<String, Object> next() {
+							if (!hasNext()) {
+								throw new NoSuchElementException();
+							}
+							int index = fIndex++;
+							return new SimpleImmutableEntry<>(fColumnNames[index], fColumns[index].get(fRow));
+						}
+					};
+				}
+			};
+		}
+	}
+
+	private static abstract class Column {
+		private long[] fNulls = new long[1];
+
+		protected abstract boolean accepts(Object value);
+
+		protected abstract Object getValue(int row);
+
+		protected abstract void setValue(int row, Object value);
+
+		protected void freeze(int size) {
+			fNulls = Arrays.copyOf(fNulls, (size >>> 6) + 1);
+		}
+
+		final boolean isNull(int row) {
+			int i = row >>> 6;
+			return (i < fNulls.length && (fNulls[i] & (1L << row)) != 0);
+		}
+
+		final Object get(int row) {
+			if (isNull(row)) {
+				return null;
+			}
+			return getValue(row);
+		}
+
+		final void set(int row, Object value) {
+			if (value == null) {
+				int i = row >>> 6;
+				if (i >= fNulls.length) {
+					fNulls = Arrays.copyOf(fNulls, Math.max(i + 1, fNulls.length * 2));
+				}
+				fNulls[i] |= (1L << row);
+				return;
+			}
+			setValue(row, value);
+		}
+
+		final Column widen(Object value, int size, boolean offHeap) {
+			Column column = (this instanceof NullColumn) ? newColumn(value, offHeap) : new ObjectColumn();
+			for (int row = 0; row < size; row++) {
+				column.set(row, get(row));
+			}
+			return column;
+		}
+
+		private static Column newColumn(Object value, boolean offHeap) {
+			Class<?> type = value.getClass();
+			if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class) {
+				return new LongColumn(type, offHeap);
+			}
+			if (type == Double.class || type == Float.class) {
+				return new DoubleColumn(type, offHeap);
+			}
+			if (type == Boolean.class) {
+				return new BooleanColumn();
+			}
+			if (type == String.class) {
+				return new StringColumn(offHeap);
+			}
+			return new ObjectColumn();
+		}
+	}
+
+	private static class NullColumn extends Column {
+		@Override
+		protected boolean accepts(Object value) {
+			return false;
+		}
+
+		@Override
+		protected Object getValue(int row) {
+			return null;
+		}
+
+		@Override
+		protected void setValue(int row, Object value) {
+			throw new IllegalStateException();
+		}
+	}
+
+	private static class LongColumn extends Column {
+		private final Class<?> fType;
+		private final FixedWidthBuffer fValues;
+
+		private LongColumn(Class<?> type, boolean offHeap) {
+			fType = type;
+			fValues = new FixedWidthBuffer(Long.BYTES, offHeap);
+		}
+
+		@Override
+		protected boolean accepts(Object value) {
+			return (value.getClass() == fType);
+		}
+
+		long getLong(int row) {
+			return fValues.getLong(row);
+		}
+
+		@Override
+		protected Object getValue(int row) {
+			long value = fValues.getLong(row);
+			if (fType == Integer.class) {
+				return Integer.valueOf((int) value);
+			}
+			if (fType == Short.class) {
+				return Short.valueOf((short) value);
+			}
+			if (fType == Byte.class) {
+				return Byte.valueOf((byte) value);
+			}
+			return Long.valueOf(value);
+		}
+
+		@Override
+		protected void setValue(int row, Object value) {
+			fValues.putLong(row, ((Number) value).longValue());
+		}
+
+		@Override
+		protected void freeze(int size) {
+			super.freeze(size);
+			fValues.trim(size);
+		}
+	}
+
+	private static class DoubleColumn extends Column {
+		private final Class<?> fType;
+		private final FixedWidthBuffer fValues;
+
+		private DoubleColumn(Class<?> type, boolean offHeap) {
+			fType = type;
+			fValues = new FixedWidthBuffer(Double.BYTES, offHeap);
+		}
+
+		@Override
+		protected boolean accepts(Object value) {
+			return (value.getClass() == fType);
+		}
+
+		double getDouble(int row) {
+			return fValues.getDouble(row);
+		}
+
+		@Override
+		protected Object getValue(int row) {
+			double value = fValues.getDouble(row);
+			if (fType == Float.class) {
+				return Float.valueOf((float) value);
+			}
+			return Double.valueOf(value);
+		}
+
+		@Override
+		protected void setValue(int row, Object value) {
+			fValues.putDouble(row, ((Number) value).doubleValue());
+		}
+
+		@Override
+		protected void freeze(int size) {
+			super.freeze(size);
+			fValues.trim(size);
+		}
+	}
+
+	private static class BooleanColumn extends Column {
+		private long[] fValues = new long[1];
+
+		@Override
+		protected boolean accepts(Object value) {
+			return (value instanceof Boolean);
+		}
+
+		@Override
+		protected Object getValue(int row) {
+			return Boolean.valueOf((fValues[row >>> 6] & (1L << row)) != 0);
+		}
+
+		@Override
+		protected void setValue(int row, Object value) {
+			int i = row >>> 6;
+			if (i >= fValues.length) {
+				fValues = Arrays.copyOf(fValues, Math.max(i + 1, fValues.length * 2));
+			}
+			if (((Boolean) value).booleanValue()) {
+				fValues[i] |= (1L << row);
+			}
+		}
+
+		@Override
+		protected void freeze(int size) {
+			super.freeze(size);
+			fValues = Arrays.copyOf(fValues, (size >>> 6) + 1);
+		}
+	}
+
+	private static class StringColumn extends Column {
+		private final FixedWidthBuffer fCodes;
+		private final FixedWidthBuffer fOffsets;
+		private final FixedWidthBuffer fArena;
+		private Map<String, Integer> fDictionary = new HashMap<>();
+		private int fDictionarySize;
+		private int fArenaLength;
+
+		private StringColumn(boolean offHeap) {
+			fCodes = new FixedWidthBuffer(Integer.BYTES, offHeap);
+			fOffsets = new FixedWidthBuffer(Integer.BYTES, offHeap);
+			fArena = new FixedWidthBuffer(Character.BYTES, offHeap);
+		}
+
+		@Override
+		protected boolean accepts(Object value) {
+			return (value instanceof String);
+		}
+
+		int getCode(int row) {
+			return fCodes.getInt(row);
+		}
+
+		String getString(int row) {
+			return decode(fCodes.getInt(row));
+		}
+
+		int indexOf(String value) {
+			if (fDictionary != null) {
+				Integer code = fDictionary.get(value);
+				return (code == null) ? -1 : code;
+			}
+			for (int code = 0; code < fDictionarySize; code++) {
+				if (matches(code, value)) {
+					return code;
+				}
+			}
+			return -1;
+		}
+
+		private boolean matches(int code, String value) {
+			int start = fOffsets.getInt(code);
+			int end = (code + 1 < fDictionarySize) ? fOffsets.getInt(code + 1) : fArenaLength;
+			if (end - start != value.length()) {
+				return false;
+			}
+			for (int i = 0; i < value.length(); i++) {
+				if (fArena.getChar(start + i) != value.charAt(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private String decode(int code) {
+			int start = fOffsets.getInt(code);
+			int end = (code + 1 < fDictionarySize) ? fOffsets.getInt(code + 1) : fArenaLength;
+			char[] chars = new char[end - start];
+			for (int i = 0; i < chars.length; i++) {
+				chars[i] = fArena.getChar(start + i);
+			}
+			return new String(chars);
+		}
+
+		@Override
+		protected Object getValue(int row) {
+			return getString(row);
+		}
+
+		@Override
+		protected void setValue(int row, Object value) {
+			String stringValue = (String) value;
+			Integer code = fDictionary.get(stringValue);
+			if (code == null) {
+				if ((long) fArenaLength + stringValue.length() > Integer.MAX_VALUE) {
+					throw new IllegalStateException("String arena capacity exceeded.");
+				}
+				code = fDictionarySize++;
+				fOffsets.putInt(code, fArenaLength);
+				for (int i = 0; i < stringValue.length(); i++) {
+					fArena.putChar(fArenaLength++, stringValue.charAt(i));
+				}
+				fDictionary.put(stringValue, code);
+			}
+			fCodes.putInt(row, code);
+		}
+
+		@Override
+		protected void freeze(int size) {
+			super.freeze(size);
+			fCodes.trim(size);
+			fOffsets.trim(fDictionarySize);
+			fArena.trim(fArenaLength);
+			fDictionary = null;
+		}
+	}
+
+	private static class ObjectColumn extends Column {
+		private Object[] fValues = new Object[16];
+
+		@Override
+		protected boolean accepts(Object value) {
+			return true;
+		}
+
+		@Override
+		protected Object getValue(int row) {
+			return fValues[row];
+		}
+
+		@Override
+		protected void setValue(int row, Object value) {
+			if (row >= fValues.length) {
+				fValues = Arrays.copyOf(fValues, Math.max(row + 1, fValues.length * 2));
+			}
+			fValues[row] = value;
+		}
+
+		@Override
+		protected void freeze(int size) {
+			super.freeze(size);
+			fValues = Arrays.copyOf(fValues, size);
+		}
+	}
+
+	private static class FixedWidthBuffer {
+		private final int fWidth;
+		private final boolean fOffHeap;
+		private ByteBuffer fBuffer;
+
+		private FixedWidthBuffer(int width, boolean offHeap) {
+			fWidth = width;
+			fOffHeap = offHeap;
+			fBuffer = allocate(16 * width);
+		}
+
+		private ByteBuffer allocate(int capacity) {
+			if (fOffHeap) {
+				return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+			}
+			return ByteBuffer.allocate(capacity).order(ByteOrder.nativeOrder());
+		}
+
+		private void ensureCapacity(int count) {
+			long required = (long) count * fWidth;
+			if (required <= fBuffer.capacity()) {
+				return;
+			}
+			if (required > Integer.MAX_VALUE) {
+				throw new IllegalStateException("Column capacity exceeded.");
+			}
+
+			resize((int) Math.max(required, Math.min((long) fBuffer.capacity() * 2, Integer.MAX_VALUE)));
+		}
+
+		private void resize(int capacity) {
+			ByteBuffer buffer = allocate(capacity);
+			ByteBuffer source = fBuffer.duplicate();
+			source.clear();
+			source.limit(Math.min(source.capacity(), capacity));
+			buffer.put(source);
+			buffer.clear();
+			fBuffer = buffer;
+		}
+
+		private void trim(int count) {
+			int capacity = Math.max(count, 1) * fWidth;
+			if (capacity < fBuffer.capacity()) {
+				resize(capacity);
+			}
+		}
+
+		private long getLong(int index) {
+			return fBuffer.getLong(index * fWidth);
+		}
+
+		private void putLong(int index, long value) {
+			ensureCapacity(index + 1);
+			fBuffer.putLong(index * fWidth, value);
+		}
+
+		private double getDouble(int index) {
+			return fBuffer.getDouble(index * fWidth);
+		}
+
+		private void putDouble(int index, double value) {
+			ensureCapacity(index + 1);
+			fBuffer.putDouble(index * fWidth, value);
+		}
+
+		private int getInt(int index) {
+			return fBuffer.getInt(index * fWidth);
+		}
+
+		private void putInt(int index, int value) {
+			ensureCapacity(index + 1);
+			fBuffer.putInt(index * fWidth, value);
+		}
+
+		private char getChar(int index) {
+			return fBuffer.getChar(index * fWidth);
+		}
+
+		private void putChar(int index, char value) {
+			ensureCapacity(index + 1);
+			fBuffer.putChar(index * fWidth, value);
+		}
+	}
+
+}
@@ -36,9 +36,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import javax.sql.DataSource;
+
 public class Entity {
 
 	private final Connection fConnection;
+	private final DataSource fDataSource;
 	private final ParameterHandler fParameterHandler;
 	private final ResultHandler fResultHandler;
 	private final String fTableName;
@@ -48,12 +51,28 @@ public class Entity {
 
 	private Entity(Builder builder) throws SQLException {
 		fConnection = builder.fConnection;
+		fDataSource = builder.fDataSource;
 		fParameterHandler = builder.fParameterHandler;
 		fResultHandler = builder.fResultHandler;
 
-		DatabaseMetaData metadata = builder.fConnection.getMetaData();
+		if (fDataSource != null) {
+			try (Connection connection = getMetaDataConnection()) {
+				fTableName = loadMetaData(connection.getMetaData(), builder.fName);
+			}
+		} else {
+			fTableName = loadMetaData(fConnection.getMetaData(), builder.fName);
+		}
+	}
 
-		String[] args = builder.fName.split("\\.");
+	private Connection getMetaDataConnection() throws SQLException {
+		if (fDataSource instanceof RoutingDataSource) {
+			return ((RoutingDataSource) fDataSource).getReadOnlyConnection();
+		}
+		return fDataSource.getConnection();
+	}
+
+	private String loadMetaData(DatabaseMetaData metadata, String entityName) throws SQLException {
+		String[] args = entityName.split("\\.");
 		List<String> argList = new ArrayList<>();
 		for (String e : args) {
 			e = e.trim();
@@ -70,12 +89,12 @@ public class Entity {
 
 		String catalog = argList.get(0);
 		String schema = argList.get(1);
-		fTableName = argList.get(2);
+		String tableName = argList.get(2);
 
-		try (ResultSet results = metadata.getColumns(catalog, schema, fTableName, "%")) {
+		try (ResultSet results = metadata.getColumns(catalog, schema, tableName, "%")) {
 			while (results.next()) {
 				do {
-					if (!fTableName.equalsIgnoreCase(results.getString("TABLE_NAME"))) {
+					if (!tableName.equalsIgnoreCase(results.getString("TABLE_NAME"))) {
 						break;
 					}
 					if (schema != null) {
@@ -102,10 +121,10 @@ public class Entity {
 			}
 		}
 
-		try (ResultSet results = metadata.getPrimaryKeys(catalog, schema, fTableName)) {
+		try (ResultSet results = metadata.getPrimaryKeys(catalog, schema, tableName)) {
 			while (results.next()) {
 				do {
-					if (!fTableName.equalsIgnoreCase(results.getString("TABLE_NAME"))) {
+					if (!tableName.equalsIgnoreCase(results.getString("TABLE_NAME"))) {
 						break;
 					}
 					if (schema != null) {
@@ -171,6 +190,8 @@ public class Entity {
 				return 0;
 			}
 		});
+
+		return tableName;
 	}
 
 	public Query findByPrimaryKey(Map<String, Object> conditions) throws SQLException {
@@ -180,7 +201,7 @@ public class Entity {
 		sql.append("SELECT * FROM ").append(fTableName);
 		sql.append(createWhereClause(variables, true));
 
-		return Query.newBuilder(fConnection)
+		return newQueryBuilder()
 				.setStatement(sql.toString())
 				.setVariables(variables)
 				.setParameterHandler(fParameterHandler)
@@ -195,7 +216,7 @@ public class Entity {
 		sql.append("SELECT * FROM ").append(fTableName);
 		sql.append(createWhereClause(variables, false));
 
-		return Query.newBuilder(fConnection)
+		return newQueryBuilder()
 				.setStatement(sql.toString())
 				.setVariables(variables)
 				.setParameterHandler(fParameterHandler)
@@ -234,7 +255,7 @@ public class Entity {
 		}
 		sql.append(")");
 
-		return Update.newBuilder(fConnection)
+		return newUpdateBuilder()
 				.setStatement(sql.toString())
 				.setVariables(variables)
 				.setParameterHandler(fParameterHandler)
@@ -261,7 +282,7 @@ public class Entity {
 		sql.append(createSetCommand(variables));
 		sql.append(createWhereClause(variables, cnds, true));
 
-		return Update.newBuilder(fConnection)
+		return newUpdateBuilder()
 				.setStatement(sql.toString())
 				.setVariables(variables)
 				.setParameterHandler(fParameterHandler)
@@ -277,7 +298,7 @@ public class Entity {
 		sql.append(createSetCommand(variables));
 		sql.append(createWhereClause(variables, cnds, false));
 
-		return Update.newBuilder(fConnection)
+		return newUpdateBuilder()
 				.setStatement(sql.toString())
 				.setVariables(variables)
 				.setParameterHandler(fParameterHandler)
@@ -291,7 +312,7 @@ public class Entity {
 		sql.append("DELETE FROM ").append(fTableName);
 		sql.append(createWhereClause(variables, true));
 
-		return Update.newBuilder(fConnection)
+		return newUpdateBuilder()
 				.setStatement(sql.toString())
 				.setVariables(variables)
 				.setParameterHandler(fParameterHandler)
@@ -305,7 +326,7 @@ public class Entity {
 		sql.append("DELETE FROM ").append(fTableName);
 		sql.append(createWhereClause(variables, false));
 
-		return Update.newBuilder(fConnection)
+		return newUpdateBuilder()
 				.setStatement(sql.toString())
 				.setVariables(variables)
 				.setParameterHandler(fParameterHandler)
@@ -320,6 +341,20 @@ public class Entity {
 		return Collections.unmodifiableList(columnNames);
 	}
 
+	private Query.Builder newQueryBuilder() {
+		if (fDataSource != null) {
+			return Query.newBuilder(fDataSource);
+		}
+		return Query.newBuilder(fConnection);
+	}
+
+	private Update.Builder newUpdateBuilder() {
+		if (fDataSource != null) {
+			return Update.newBuilder(fDataSource);
+		}
+		return Update.newBuilder(fConnection);
+	}
+
 	private Map<String, Object> normalizeKey(Map<String, Object> map) {
 		Map<String, Object> result = new HashMap<>();
 		for (Map.Entry<String, Object> e : map.entrySet()) {
@@ -395,22 +430,35 @@ public class Entity {
 		return Builder.create(connection);
 	}
 
+	public static Builder newBuilder(DataSource dataSource) {
+		return Builder.create(dataSource);
+	}
+
 	@Deprecated
 	public static Builder newBuilder() {
-		return Builder.create(null);
+		return Builder.create((Connection) null);
 	}
 
 	public static class Builder {
 		private Connection fConnection;
+		private DataSource fDataSource;
 
 		private Builder(Connection connection) {
 			fConnection = connection;
 		}
 
+		private Builder(DataSource dataSource) {
+			fDataSource = dataSource;
+		}
+
 		public static Builder create(Connection connection) {
 			return new Builder(connection);
 		}
 
+		public static Builder create(DataSource dataSource) {
+			return new Builder(dataSource);
+		}
+
 		private String fName;
 		public Builder setName(String name) {
 			fName = name;
@@ -437,7 +485,9 @@ public class Entity {
 
 		public Entity build() throws SQLException {
 			Objects.requireNonNull(fName);
-			Objects.requireNonNull(fConnection);
+			if (fDataSource == null) {
+				Objects.requireNonNull(fConnection);
+			}
 			return new Entity(this);
 		}
 	}
@@ -35,7 +35,10 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 
+import javax.sql.DataSource;
+
 import org.mintjams.tools.collections.AdaptableMap;
+import org.mintjams.tools.collections.CaseInsensitiveMap;
 import org.mintjams.tools.internal.sql.DefaultResultHandler;
 import org.mintjams.tools.internal.sql.SQLStatement;
 import org.mintjams.tools.io.Closer;
@@ -46,6 +49,7 @@ public class Query {
 	private final String fStatement;
 	private final Map<String, Object> fVariables = new HashMap<>();
 	private final Connection fConnection;
+	private final DataSource fDataSource;
 	private final boolean fCloseConnection;
 	private final ParameterHandler fParameterHandler;
 	private ResultHandler fResultHandler;
@@ -60,16 +64,17 @@ public class Query {
 		fStatement = builder.fStatement;
 		fVariables.putAll(builder.fVariables);
 		fConnection = builder.fConnection;
+		fDataSource = builder.fDataSource;
 		fCloseConnection = builder.fCloseConnection;
 		fParameterHandler = builder.fParameterHandler;
 		fResultHandler = builder.fResultHandler;
 	}
 
-	private SQLStatement prepare() throws SQLException {
+	private SQLStatement prepare(Connection connection) throws SQLException {
 		return SQLStatement.newBuilder()
 				.setSource(fStatement)
 				.setVariables(fVariables)
-				.setConnection(fConnection)
+				.setConnection(connection)
 				.setParameterHandler(fParameterHandler)
 				.build();
 	}
@@ -104,11 +109,24 @@ public class Query {
 		return this;
 	}
 
+	private Connection getConnection() throws SQLException {
+		if (fDataSource == null) {
+			return fConnection;
+		}
+
+		if (fDataSource instanceof RoutingDataSource) {
+			return ((RoutingDataSource) fDataSource).getReadOnlyConnection();
+		}
+		return fDataSource.getConnection();
+	}
+
 	public Result execute() throws SQLException {
+		Connection connection = getConnection();
+		boolean closeConnection = (fCloseConnection || fDataSource != null);
 		SQLStatement stmt = null;
 		ResultSet rs = null;
 		try {
-			stmt = prepare();
+			stmt = prepare(connection);
 
 			PreparedStatement p = stmt.prepare(
 					ResultSet.TYPE_FORWARD_ONLY,
@@ -131,9 +149,9 @@ public class Query {
 			try {
 				stmt.close();
 			} catch (Throwable ignore) {}
-			if (fCloseConnection) {
+			if (closeConnection) {
 				try {
-					fConnection.close();
+					connection.close();
 				} catch (Throwable ignore) {}
 			}
 
@@ -142,29 +160,42 @@ public class Query {
 			}
 			throw (IllegalStateException) new IllegalStateException(ex.getMessage()).initCause(ex);
 		}
-		return new ResultImpl(rs, stmt);
+		return new ResultImpl(rs, stmt, connection, closeConnection);
 	}
 
 	public static Builder newBuilder(Connection connection) {
 		return Builder.create(connection);
 	}
 
+	public static Builder newBuilder(DataSource dataSource) {
+		return Builder.create(dataSource);
+	}
+
 	@Deprecated
 	public static Builder newBuilder() {
-		return Builder.create(null);
+		return Builder.create((Connection) null);
 	}
 
 	public static class Builder {
 		private Connection fConnection;
+		private DataSource fDataSource;
 
 		private Builder(Connection connection) {
 			fConnection = connection;
 		}
 
+		private Builder(DataSource dataSource) {
+			fDataSource = dataSource;
+		}
+
 		public static Builder create(Connection connection) {
 			return new Builder(connection);
 		}
 
+		public static Builder create(DataSource dataSource) {
+			return new Builder(dataSource);
+		}
+
 		private String fStatement;
 		public Builder setStatement(String statement) {
 			fStatement = statement;
@@ -207,7 +238,9 @@ public class Query {
 
 		public Query build() throws SQLException {
 			Objects.requireNonNull(fStatement);
-			Objects.requireNonNull(fConnection);
+			if (fDataSource == null) {
+				Objects.requireNonNull(fConnection);
+			}
 			return new Query(this);
 		}
 	}
@@ -224,6 +257,7 @@ public class Query {
 		private final Closer fCloser = Closer.create();
 		private boolean fHasNext;
 		private int fRow = 0;
+		private CaseInsensitiveMap.KeyTable fKeyTable;
 
 		private ResultContext fResultContext = new ResultContext() {
 			@Override
@@ -265,7 +299,10 @@ public class Query {
 				} catch (SQLException ex) {
 					throw (IllegalStateException) new IllegalStateException(ex.getMessage()).initCause(ex);
 				}
-				AdaptableMap<String, Object> result = AdaptableMap.<String, Object>newBuilder(String.CASE_INSENSITIVE_ORDER).putAll(columns).build();
+				if (fKeyTable == null) {
+					fKeyTable = CaseInsensitiveMap.KeyTable.of(columns.keySet());
+				}
+				AdaptableMap<String, Object> result = AdaptableMap.<Object>newCaseInsensitiveBuilder(fKeyTable).putAll(columns).build();
 
 				try {
 					fHasNext = fResultSet.next();
@@ -282,9 +319,9 @@ public class Query {
 			}
 		};
 
-		private ResultImpl(ResultSet rs, SQLStatement stmt) throws SQLException {
-			if (fCloseConnection) {
-				fCloser.register(fConnection);
+		private ResultImpl(ResultSet rs, SQLStatement stmt, Connection connection, boolean closeConnection) throws SQLException {
+			if (closeConnection) {
+				fCloser.register(connection);
 			}
 			fCloser.register(stmt);
 			fResultSet = fCloser.register(rs);
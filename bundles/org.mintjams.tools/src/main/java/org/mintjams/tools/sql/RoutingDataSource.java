@@ -0,0 +1,472 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.sql;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+public class RoutingDataSource implements DataSource {
+
+	private final DataSource fPrimary;
+	private final List<Replica> fReplicas;
+	private final LoadBalancing fLoadBalancing;
+	private final long fRetryInterval;
+	private final long fReadYourWritesWindow;
+	private final AtomicInteger fNextIndex = new AtomicInteger();
+	private final ThreadLocal<Long> fLastWriteTime = new ThreadLocal<>();
+
+	private RoutingDataSource(Builder builder) {
+		fPrimary = builder.fPrimary;
+		List<Replica> replicas = new ArrayList<>();
+		for (DataSource e : builder.fReplicas) {
+			replicas.add(new Replica(e));
+		}
+		fReplicas = Collections.unmodifiableList(replicas);
+		fLoadBalancing = builder.fLoadBalancing;
+		fRetryInterval = builder.fRetryInterval;
+		fReadYourWritesWindow = builder.fReadYourWritesWindow;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrap(fPrimary.getConnection(), null, true);
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return wrap(fPrimary.getConnection(username, password), null, true);
+	}
+
+	public Connection getReadOnlyConnection() throws SQLException {
+		if (!isWithinReadYourWritesWindow()) {
+			for (int i = 0; i < fReplicas.size(); i++) {
+				Replica replica = select();
+				if (replica == null) {
+					break;
+				}
+
+				Connection connection;
+				try {
+					connection = replica.fDataSource.getConnection();
+				} catch (SQLException ex) {
+					replica.markDown();
+					continue;
+				}
+				replica.markUp();
+				return wrap(connection, replica, false);
+			}
+		}
+
+		return wrap(fPrimary.getConnection(), null, false);
+	}
+
+	public List<ReplicaStatus> getReplicaStatus() {
+		return Collections.unmodifiableList(new ArrayList<>(fReplicas));
+	}
+
+	private boolean isWithinReadYourWritesWindow() {
+		if (fReadYourWritesWindow <= 0) {
+			return false;
+		}
+
+		Long lastWriteTime = fLastWriteTime.get();
+		if (lastWriteTime == null) {
+			return false;
+		}
+
+		if (System.currentTimeMillis() - lastWriteTime < fReadYourWritesWindow) {
+			return true;
+		}
+
+		fLastWriteTime.remove();
+		return false;
+	}
+
+	private Replica select() {
+		List<Replica> available = new ArrayList<>(fReplicas.size());
+		for (Replica replica : fReplicas) {
+			if (replica.isAvailable()) {
+				available.add(replica);
+			}
+		}
+		if (available.isEmpty()) {
+			return null;
+		}
+		if (available.size() == 1) {
+			return available.get(0);
+		}
+
+		if (fLoadBalancing == LoadBalancing.LEAST_OUTSTANDING) {
+			Replica selected = null;
+			int offset = Math.floorMod(fNextIndex.getAndIncrement(), available.size());
+			for (int i = 0; i < available.size(); i++) {
+				Replica replica = available.get((offset + i) % available.size());
+				if (selected == null || replica.getOutstanding() < selected.getOutstanding()) {
+					selected = replica;
+				}
+			}
+			return selected;
+		}
+
+		if (fLoadBalancing == LoadBalancing.LATENCY_WEIGHTED) {
+			double[] weights = new double[available.size()];
+			double total = 0;
+			for (int i = 0; i < available.size(); i++) {
+				weights[i] = 1.0 / (available.get(i).getLatency() + 1.0);
+				total += weights[i];
+			}
+			double r = ThreadLocalRandom.current().nextDouble(total);
+			for (int i = 0; i < weights.length; i++) {
+				r -= weights[i];
+				if (r < 0) {
+					return available.get(i);
+				}
+			}
+			return available.get(available.size() - 1);
+		}
+
+		return available.get(Math.floorMod(fNextIndex.getAndIncrement(), available.size()));
+	}
+
+	private Connection wrap(Connection connection, Replica replica, boolean write) {
+		return (Connection) Proxy.newProxyInstance(
+				RoutingDataSource.class.getClassLoader(),
+				new Class<?>[] { Connection.class },
+				new ConnectionHandler(connection, replica, write));
+	}
+
+	private static boolean isConnectionFailure(Throwable ex) {
+		if (ex instanceof SQLNonTransientConnectionException || ex instanceof SQLTransientConnectionException) {
+			return true;
+		}
+		if (ex instanceof SQLException) {
+			String state = ((SQLException) ex).getSQLState();
+			return (state != null && state.startsWith("08"));
+		}
+		return false;
+	}
+
+	@Override
+	public PrintWriter getLogWriter() throws SQLException {
+		return fPrimary.getLogWriter();
+	}
+
+	@Override
+	public void setLogWriter(PrintWriter out) throws SQLException {
+		fPrimary.setLogWriter(out);
+		for (Replica replica : fReplicas) {
+			replica.fDataSource.setLogWriter(out);
+		}
+	}
+
+	@Override
+	public void setLoginTimeout(int seconds) throws SQLException {
+		fPrimary.setLoginTimeout(seconds);
+		for (Replica replica : fReplicas) {
+			replica.fDataSource.setLoginTimeout(seconds);
+		}
+	}
+
+	@Override
+	public int getLoginTimeout() throws SQLException {
+		return fPrimary.getLoginTimeout();
+	}
+
+	@Override
+	public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+		return fPrimary.getParentLogger();
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		if (iface.isInstance(this)) {
+			return iface.cast(this);
+		}
+		return fPrimary.unwrap(iface);
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		if (iface.isInstance(this)) {
+			return true;
+		}
+		return fPrimary.isWrapperFor(iface);
+	}
+
+	public static Builder newBuilder(DataSource primary) {
+		return Builder.create(primary);
+	}
+
+	public static class Builder {
+		private final DataSource fPrimary;
+
+		private Builder(DataSource primary) {
+			fPrimary = primary;
+		}
+
+		public static Builder create(DataSource primary) {
+			return new Builder(primary);
+		}
+
+		private final List<DataSource> fReplicas = new ArrayList<>();
+		public Builder addReplica(DataSource replica) {
+			fReplicas.add(Objects.requireNonNull(replica));
+			return this;
+		}
+
+		private LoadBalancing fLoadBalancing = LoadBalancing.ROUND_ROBIN;
+		public Builder setLoadBalancing(LoadBalancing loadBalancing) {
+			fLoadBalancing = Objects.requireNonNull(loadBalancing);
+			return this;
+		}
+
+		private long fRetryInterval = 30000;
+		public Builder setRetryInterval(long milliseconds) {
+			if (milliseconds < 0) {
+				throw new IllegalArgumentException("Invalid retry interval: " + milliseconds);
+			}
+			fRetryInterval = milliseconds;
+			return this;
+		}
+
+		private long fReadYourWritesWindow = 0;
+		/**
+		 * Routes {@link RoutingDataSource#getReadOnlyConnection()} to the primary for
+		 * the given time after a connection from {@code getConnection()} executed an
+		 * update or a commit. The window is tracked per thread, so reads issued from
+		 * another thread than the write are not covered.
+		 */
+		public Builder setReadYourWritesWindow(long milliseconds) {
+			if (milliseconds < 0) {
+				throw new IllegalArgumentException("Invalid read-your-writes window: " + milliseconds);
+			}
+			fReadYourWritesWindow = milliseconds;
+			return this;
+		}
+
+		public RoutingDataSource build() {
+			Objects.requireNonNull(fPrimary);
+			return new RoutingDataSource(this);
+		}
+	}
+
+	public enum LoadBalancing {
+		ROUND_ROBIN,
+		LEAST_OUTSTANDING,
+		LATENCY_WEIGHTED
+	}
+
+	public interface ReplicaStatus {
+		DataSource getDataSource();
+
+		boolean isAvailable();
+
+		int getOutstanding();
+
+		double getLatency();
+
+		long getFailureCount();
+	}
+
+	private class Replica implements ReplicaStatus {
+		private final DataSource fDataSource;
+		private final AtomicInteger fOutstanding = new AtomicInteger();
+		private final AtomicLong fFailureCount = new AtomicLong();
+		private volatile long fDownUntil;
+		private volatile double fLatency;
+
+		private Replica(DataSource dataSource) {
+			fDataSource = dataSource;
+		}
+
+		@Override
+		public DataSource getDataSource() {
+			return fDataSource;
+		}
+
+		@Override
+		public boolean isAvailable() {
+			return System.currentTimeMillis() >= fDownUntil;
+		}
+
+		@Override
+		public int getOutstanding() {
+			return fOutstanding.get();
+		}
+
+		@Override
+		public double getLatency() {
+			return fLatency;
+		}
+
+		@Override
+		public long getFailureCount() {
+			return fFailureCount.get();
+		}
+
+		private void markDown() {
+			fFailureCount.incrementAndGet();
+			fDownUntil = System.currentTimeMillis() + fRetryInterval;
+		}
+
+		private void markUp() {
+			fDownUntil = 0;
+		}
+
+		private synchronized void recordLatency(long nanos) {
+			double millis = nanos / 1000000.0;
+			fLatency = (fLatency == 0) ? millis : (fLatency * 0.8 + millis * 0.2);
+		}
+	}
+
+	private class ConnectionHandler implements InvocationHandler {
+		private final Connection fConnection;
+		private final Replica fReplica;
+		private final boolean fWrite;
+		private final AtomicBoolean fClosed = new AtomicBoolean();
+		private volatile boolean fWritten;
+
+		private ConnectionHandler(Connection connection, Replica replica, boolean write) {
+			fConnection = connection;
+			fReplica = replica;
+			fWrite = write;
+			if (fReplica != null) {
+				fReplica.fOutstanding.incrementAndGet();
+			}
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+			if (name.equals("close")) {
+				if (fClosed.compareAndSet(false, true)) {
+					if (fReplica != null) {
+						fReplica.fOutstanding.decrementAndGet();
+					}
+					if (fWritten) {
+						fLastWriteTime.set(System.currentTimeMillis());
+					}
+				}
+			}
+			if (name.equals("commit") && fWrite) {
+				fWritten = true;
+			}
+			if (name.equals("unwrap") && args[0] instanceof Class && ((Class<?>) args[0]).isInstance(fConnection)) {
+				return fConnection;
+			}
+			if (name.equals("equals")) {
+				return proxy == args[0];
+			}
+			if (name.equals("hashCode")) {
+				return System.identityHashCode(proxy);
+			}
+
+			Object result = invokeTarget(fConnection, method, args);
+			if ((fReplica != null || fWrite) && result instanceof Statement) {
+				Class<?> type = (result instanceof CallableStatement) ? CallableStatement.class
+						: (result instanceof PreparedStatement) ? PreparedStatement.class : Statement.class;
+				return Proxy.newProxyInstance(
+						RoutingDataSource.class.getClassLoader(),
+						new Class<?>[] { type },
+						new StatementHandler(result, proxy));
+			}
+			return result;
+		}
+
+		private Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+			try {
+				return method.invoke(target, args);
+			} catch (InvocationTargetException ex) {
+				Throwable cause = ex.getCause();
+				if (fReplica != null && isConnectionFailure(cause)) {
+					fReplica.markDown();
+				}
+				throw cause;
+			}
+		}
+
+		private class StatementHandler implements InvocationHandler {
+			private final Object fStatement;
+			private final Object fConnectionProxy;
+
+			private StatementHandler(Object statement, Object connectionProxy) {
+				fStatement = statement;
+				fConnectionProxy = connectionProxy;
+			}
+
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				String name = method.getName();
+				if (name.equals("getConnection")) {
+					return fConnectionProxy;
+				}
+				if (name.equals("unwrap") && args[0] instanceof Class && ((Class<?>) args[0]).isInstance(fStatement)) {
+					return fStatement;
+				}
+				if (name.equals("equals")) {
+					return proxy == args[0];
+				}
+				if (name.equals("hashCode")) {
+					return System.identityHashCode(proxy);
+				}
+
+				if (!name.startsWith("execute")) {
+					return invokeTarget(fStatement, method, args);
+				}
+
+				long start = System.nanoTime();
+				Object result = invokeTarget(fStatement, method, args);
+				if (fReplica != null) {
+					fReplica.recordLatency(System.nanoTime() - start);
+				}
+				if (fWrite && !name.equals("executeQuery") && !Boolean.TRUE.equals(result)) {
+					fWritten = true;
+				}
+				return result;
+			}
+		}
+	}
+
+}
@@ -30,6 +30,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
+import javax.sql.DataSource;
+
 import org.mintjams.tools.internal.sql.SQLStatement;
 
 public class Update {
@@ -37,6 +39,7 @@ public class Update {
 	private final String fStatement;
 	private final Map<String, Object> fVariables = new HashMap<>();
 	private final Connection fConnection;
+	private final DataSource fDataSource;
 	private final ParameterHandler fParameterHandler;
 	private Integer fQueryTimeout;
 
@@ -44,14 +47,15 @@ public class Update {
 		fStatement = builder.fStatement;
 		fVariables.putAll(builder.fVariables);
 		fConnection = builder.fConnection;
+		fDataSource = builder.fDataSource;
 		fParameterHandler = builder.fParameterHandler;
 	}
 
-	private SQLStatement prepare() {
+	private SQLStatement prepare(Connection connection) {
 		return SQLStatement.newBuilder()
 				.setSource(fStatement)
 				.setVariables(fVariables)
-				.setConnection(fConnection)
+				.setConnection(connection)
 				.setParameterHandler(fParameterHandler)
 				.build();
 	}
@@ -62,7 +66,17 @@ public class Update {
 	}
 
 	public int execute() throws SQLException {
-		try (SQLStatement stmt = prepare()) {
+		if (fDataSource != null) {
+			try (Connection connection = fDataSource.getConnection()) {
+				return execute(connection);
+			}
+		}
+
+		return execute(fConnection);
+	}
+
+	private int execute(Connection connection) throws SQLException {
+		try (SQLStatement stmt = prepare(connection)) {
 			PreparedStatement p = stmt.prepare();
 			p.setQueryTimeout((fQueryTimeout != null) ? fQueryTimeout : 30);
 			return p.executeUpdate();
@@ -72,7 +86,17 @@ public class Update {
 	}
 
 	public long executeLarge() throws SQLException {
-		try (SQLStatement stmt = prepare()) {
+		if (fDataSource != null) {
+			try (Connection connection = fDataSource.getConnection()) {
+				return executeLarge(connection);
+			}
+		}
+
+		return executeLarge(fConnection);
+	}
+
+	private long executeLarge(Connection connection) throws SQLException {
+		try (SQLStatement stmt = prepare(connection)) {
 			PreparedStatement p = stmt.prepare();
 			p.setQueryTimeout((fQueryTimeout != null) ? fQueryTimeout : 30);
 			return p.executeLargeUpdate();
@@ -85,22 +109,35 @@ public class Update {
 		return Builder.create(connection);
 	}
 
+	public static Builder newBuilder(DataSource dataSource) {
+		return Builder.create(dataSource);
+	}
+
 	@Deprecated
 	public static Builder newBuilder() {
-		return Builder.create(null);
+		return Builder.create((Connection) null);
 	}
 
 	public static class Builder {
 		private Connection fConnection;
+		private DataSource fDataSource;
 
 		private Builder(Connection connection) {
 			fConnection = connection;
 		}
 
+		private Builder(DataSource dataSource) {
+			fDataSource = dataSource;
+		}
+
 		public static Builder create(Connection connection) {
 			return new Builder(connection);
 		}
 
+		public static Builder create(DataSource dataSource) {
+			return new Builder(dataSource);
+		}
+
 		private String fStatement;
 		public Builder setStatement(String statement) {
 			fStatement = statement;
@@ -131,7 +168,9 @@ public class Update {
 
 		public Update build() throws SQLException {
 			Objects.requireNonNull(fStatement);
-			Objects.requireNonNull(fConnection);
+			if (fDataSource == null) {
+				Objects.requireNonNull(fConnection);
+			}
 			return new Update(this);
 		}
 	}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.adapter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class ValueAdapterRegistryTest {
+
+	@Test
+	public void testSharesBuiltInAdapters() {
+		ValueAdapterRegistry registry = ValueAdapterRegistry.getDefault();
+		Map<String, Object> env = registry.createEnvironment(Collections.singletonMap(ValueAdapter.ENV_ENCODING, "UTF-8"));
+
+		assertSame(registry.getValueAdapter(env, String.class), registry.getValueAdapter(env, String.class));
+	}
+
+	@Test
+	public void testCreatesUserAdapterPerCall() {
+		ValueAdapterRegistry registry = ValueAdapterRegistry.newBuilder()
+				.setValueAdapter(StringBuilder.class, StringBuilderValueAdapter.class)
+				.setValueAdapterFactory(StringBuffer.class, StringBufferValueAdapter::new)
+				.build();
+		Map<String, Object> env = registry.createEnvironment(Collections.singletonMap(ValueAdapter.ENV_ENCODING, "UTF-8"));
+
+		assertNotSame(registry.getValueAdapter(env, StringBuilder.class), registry.getValueAdapter(env, StringBuilder.class));
+		assertNotSame(registry.getValueAdapter(env, StringBuffer.class), registry.getValueAdapter(env, StringBuffer.class));
+		assertSame(registry.getValueAdapter(env, String.class), registry.getValueAdapter(env, String.class));
+	}
+
+	@Test
+	public void testOverriddenBuiltInIsNotShared() {
+		ValueAdapterRegistry registry = ValueAdapterRegistry.newBuilder()
+				.setValueAdapterFactory(String.class, env -> new StringBufferValueAdapter(env).asString())
+				.build();
+		Map<String, Object> env = registry.createEnvironment(Collections.singletonMap(ValueAdapter.ENV_ENCODING, "UTF-8"));
+
+		assertNotSame(registry.getValueAdapter(env, String.class), registry.getValueAdapter(env, String.class));
+	}
+
+	@Test
+	public void testAdaptableValueWithFactoryRegisteredAdapter() {
+		ValueAdapterRegistry registry = ValueAdapterRegistry.newBuilder()
+				.setValueAdapterFactory(ZoneId.class, env -> new ZoneIdValueAdapter(env, "factory"))
+				.build();
+		Map<String, Object> env = registry.createEnvironment(Collections.singletonMap(ValueAdapter.ENV_ZONEID, "UTC"));
+		ValueAdapter<ZoneId> adapter = registry.getValueAdapter(env, ZoneId.class);
+
+		assertEquals(ZoneId.of("Asia/Tokyo"), adapter.getAdaptableValue("x").setZoneId("Asia/Tokyo").getValue());
+		assertEquals(ZoneId.of("Europe/Paris"), adapter.getAdaptableValue("x").setZoneId(ZoneId.of("Europe/Paris")).getValueOrNull());
+		assertEquals(ZoneId.of("Asia/Tokyo"), adapter.getAdaptableValue("x").setEncoding(StandardCharsets.UTF_8).setZoneId("Asia/Tokyo").getValue());
+		assertEquals(ZoneId.of("UTC"), adapter.adapt("x"));
+	}
+
+	@Test
+	public void testAdaptableValueWithUnregisteredAdapter() {
+		Map<String, Object> env = new HashMap<>();
+		env.put(ValueAdapter.ENV_ZONEID, "UTC");
+		ValueAdapter<ZoneId> adapter = new ZoneIdValueAdapter(env, "direct");
+
+		assertEquals(ZoneId.of("Asia/Tokyo"), adapter.getAdaptableValue("x").setZoneId("Asia/Tokyo").getValue());
+	}
+
+	private static class ZoneIdValueAdapter extends AbstractValueAdapter<ZoneId> {
+		private ZoneIdValueAdapter(Map<String, Object> env, String name) {
+			super(env);
+		}
+
+		@Override
+		public ZoneId adapt(Object value) {
+			return getZoneId();
+		}
+	}
+
+	public static class StringBuilderValueAdapter implements ValueAdapter<StringBuilder> {
+		private final StringBuilder fBuffer = new StringBuilder();
+
+		public StringBuilderValueAdapter(Map<String, Object> env) {}
+
+		@Override
+		public StringBuilder adapt(Object value) {
+			fBuffer.setLength(0);
+			return fBuffer.append(value);
+		}
+
+		@Override
+		public AdaptableValue<StringBuilder> getAdaptableValue(Object value) {
+			return null;
+		}
+	}
+
+	public static class StringBufferValueAdapter implements ValueAdapter<StringBuffer> {
+		public StringBufferValueAdapter(Map<String, Object> env) {}
+
+		@Override
+		public StringBuffer adapt(Object value) {
+			return new StringBuffer(String.valueOf(value));
+		}
+
+		@Override
+		public AdaptableValue<StringBuffer> getAdaptableValue(Object value) {
+			return null;
+		}
+
+		private ValueAdapter<String> asString() {
+			return new ValueAdapter<String>() {
+				@Override
+				public String adapt(Object value) {
+					return String.valueOf(value);
+				}
+
+				@Override
+				public AdaptableValue<String> getAdaptableValue(Object value) {
+					return null;
+				}
+			};
+		}
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mintjams.tools.adapter.AdaptableValue;
+import org.mintjams.tools.adapter.ValueAdapter;
+
+public class AdaptableListTest {
+
+	private static List<Object> values(int size) {
+		List<Object> l = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			switch (i % 4) {
+			case 0:
+				l.add(String.valueOf(i));
+				break;
+			case 1:
+				l.add(Integer.valueOf(i));
+				break;
+			case 2:
+				l.add(new BigDecimal(i));
+				break;
+			default:
+				l.add(null);
+			}
+		}
+		return l;
+	}
+
+	private static AdaptableList<Object> newList(int size, int parallelThreshold) {
+		return AdaptableList.<Object>newBuilder().addAll(values(size)).setParallelThreshold(parallelThreshold).build();
+	}
+
+	@Test
+	public void testBulkConversions() {
+		for (int parallelThreshold : new int[] { Integer.MAX_VALUE, 1 }) {
+			AdaptableList<Object> list = newList(1001, parallelThreshold);
+			long[] longs = new long[list.size()];
+			int[] ints = new int[list.size()];
+			double[] doubles = new double[list.size()];
+			String[] strings = new String[list.size()];
+			List<Integer> integers = new ArrayList<>();
+			for (int i = 0; i < list.size(); i++) {
+				boolean isNull = (i % 4 == 3);
+				longs[i] = isNull ? -1 : i;
+				ints[i] = isNull ? -1 : i;
+				doubles[i] = isNull ? -1 : i;
+				strings[i] = isNull ? null : String.valueOf(i);
+				integers.add(isNull ? null : i);
+			}
+
+			assertArrayEquals(longs, list.toLongArray(-1));
+			assertArrayEquals(ints, list.toIntArray(-1));
+			assertArrayEquals(doubles, list.toDoubleArray(-1));
+			assertArrayEquals(strings, list.toStringArray());
+			assertEquals(integers, list.mapTo(Integer.class));
+			assertEquals(0, list.toLongArray()[3]);
+		}
+	}
+
+	@Test
+	public void testMapToReturnsModifiableList() {
+		List<String> l = newList(3, Integer.MAX_VALUE).mapTo(String.class);
+		l.add("x");
+		assertEquals(List.of("0", "1", "2", "x"), l);
+	}
+
+	@Test
+	public void testUnknownValueType() {
+		assertThrows(IllegalArgumentException.class, () -> newList(3, Integer.MAX_VALUE).mapTo(StringBuilder.class));
+		assertThrows(IllegalArgumentException.class, () -> newList(3, 1).mapTo(StringBuilder.class));
+	}
+
+	@Test
+	public void testUserAdapterIsNotSharedAcrossThreads() {
+		ThreadBoundValueAdapter.SHARED.set(false);
+		ThreadBoundValueAdapter.INSTANCES.set(0);
+		AdaptableList<Object> list = AdaptableList.<Object>newBuilder()
+				.addAll(values(100000))
+				.setValueAdapter(Long.class, ThreadBoundValueAdapter.class)
+				.setParallelThreshold(1)
+				.build();
+
+		long[] values = list.toLongArray(-1);
+		assertEquals(99998, values[99998]);
+		assertEquals(-1, values[99999]);
+		assertFalse(ThreadBoundValueAdapter.SHARED.get());
+		assertTrue(ThreadBoundValueAdapter.INSTANCES.get() > 1);
+	}
+
+	public static class ThreadBoundValueAdapter implements ValueAdapter<Long> {
+		private static final AtomicBoolean SHARED = new AtomicBoolean();
+		private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+		private Thread fThread;
+
+		public ThreadBoundValueAdapter(Map<String, Object> env) {
+			INSTANCES.incrementAndGet();
+		}
+
+		@Override
+		public Long adapt(Object value) {
+			if (fThread == null) {
+				fThread = Thread.currentThread();
+			} else if (fThread != Thread.currentThread()) {
+				SHARED.set(true);
+			}
+
+			return (value == null) ? null : Long.valueOf(value.toString());
+		}
+
+		@Override
+		public AdaptableValue<Long> getAdaptableValue(Object value) {
+			return null;
+		}
+	}
+
+}
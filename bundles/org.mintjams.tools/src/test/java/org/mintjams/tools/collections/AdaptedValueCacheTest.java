@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class AdaptedValueCacheTest {
+
+	@Test
+	public void testMutableSourceIsNotMemoized() {
+		java.util.Date date = new java.util.Date(0);
+		AdaptableMap<String, Object> map = AdaptableMap.<String, Object>newBuilder()
+				.setMemoizeAdaptedValues(true)
+				.put("date", date)
+				.build();
+
+		String before = map.getString("date");
+		date.setTime(86400000L);
+		assertNotEquals(before, map.getString("date"));
+	}
+
+	@Test
+	public void testMutableListElementIsNotMemoized() {
+		Calendar calendar = Calendar.getInstance();
+		calendar.setTimeInMillis(0);
+		AdaptableList<Object> list = AdaptableList.<Object>newBuilder()
+				.setMemoizeAdaptedValues(true)
+				.add(calendar)
+				.build();
+
+		String before = list.getString(0);
+		calendar.setTimeInMillis(86400000L);
+		assertNotEquals(before, list.getString(0));
+	}
+
+	@Test
+	public void testImmutableSourceIsMemoized() {
+		AdaptableMap<String, Object> map = AdaptableMap.<String, Object>newBuilder()
+				.setMemoizeAdaptedValues(true)
+				.put("number", "42")
+				.build();
+
+		assertEquals(Integer.valueOf(42), map.getInteger("number"));
+		assertEquals(Integer.valueOf(42), map.getInteger("number"));
+		map.put("number", "43");
+		assertEquals(Integer.valueOf(43), map.getInteger("number"));
+	}
+
+	@Test
+	public void testConcurrentMapIsMemoized() {
+		AdaptableMap<String, Object> map = AdaptableMap.<String, Object>newConcurrentBuilder()
+				.setMemoizeAdaptedValues(true)
+				.put("date", "2021-01-02")
+				.build();
+
+		assertSame(map.getLocalDate("date"), map.getLocalDate("date"));
+	}
+
+	@Test
+	public void testRemoveEvictsAdaptedValue() {
+		AdaptedValueCache cache = new AdaptedValueCache();
+		String source = "42";
+		cache.put("a", Integer.class, source, 42);
+		cache.put("a", Long.class, source, 42L);
+		cache.put("b", Integer.class, source, 42);
+		cache.remove("a");
+
+		assertSame(AdaptedValueCache.NONE, cache.get("a", Integer.class, source));
+		assertSame(AdaptedValueCache.NONE, cache.get("a", Long.class, source));
+		assertEquals(42, cache.get("b", Integer.class, source));
+
+		AdaptableMap<String, Object> map = AdaptableMap.<String, Object>newBuilder()
+				.setMemoizeAdaptedValues(true)
+				.put("number", "42")
+				.build();
+		assertEquals(Integer.valueOf(42), map.getInteger("number"));
+		map.remove("number");
+		assertNull(map.getInteger("number"));
+	}
+
+	@Test
+	public void testConcurrentReaders() throws Exception {
+		AdaptableMap.Builder<String, Object> builder = AdaptableMap.<String, Object>wrap(new ConcurrentHashMap<>()).setMemoizeAdaptedValues(true);
+		for (int i = 0; i < 1000; i++) {
+			builder.put("k" + i, String.valueOf(i));
+		}
+		AdaptableMap<String, Object> map = builder.build();
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				futures.add(executor.submit(() -> {
+					for (int round = 0; round < 20; round++) {
+						for (int i = 0; i < 1000; i++) {
+							assertEquals(Integer.valueOf(i), map.getInteger("k" + i));
+							assertEquals(Long.valueOf(i), map.getLong("k" + i));
+						}
+					}
+					return null;
+				}));
+			}
+			for (Future<?> f : futures) {
+				f.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
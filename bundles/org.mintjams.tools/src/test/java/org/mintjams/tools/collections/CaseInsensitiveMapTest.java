@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class CaseInsensitiveMapTest {
+
+	private static final String[] KEYS = { "id", "ID", "Id", "name", "NAME", "value", "Value", "a", "B", "c", "ß", "SS", "é", "É", "zz", "Zz" };
+
+	private static List<String> entries(Map<String, Integer> m) {
+		List<String> l = new ArrayList<>();
+		for (Map.Entry<String, Integer> e : m.entrySet()) {
+			l.add(e.getKey() + "=" + e.getValue());
+		}
+		return l;
+	}
+
+	@Test
+	public void testPutAndRemove() {
+		CaseInsensitiveMap<Integer> m = new CaseInsensitiveMap<>();
+		assertNull(m.put("Name", 1));
+		assertEquals(1, m.put("NAME", 2));
+		assertEquals(2, m.get("name"));
+		assertTrue(m.containsKey("nAmE"));
+		assertEquals(List.of("Name=2"), entries(m));
+
+		assertEquals(2, m.remove("name"));
+		assertFalse(m.containsKey("Name"));
+		assertNull(m.remove("name"));
+		assertNull(m.put("NAME", 3));
+		assertEquals(List.of("NAME=3"), entries(m));
+	}
+
+	@Test
+	public void testIterationOrder() {
+		CaseInsensitiveMap<Integer> m = new CaseInsensitiveMap<>();
+		m.put("b", 1);
+		m.put("C", 2);
+		m.put("a", 3);
+		m.put("B", 4);
+		assertEquals(List.of("a=3", "b=4", "C=2"), entries(m));
+		m.put("A0", 5);
+		assertEquals(List.of("a=3", "A0=5", "b=4", "C=2"), entries(m));
+	}
+
+	@Test
+	public void testSharedKeyTable() {
+		CaseInsensitiveMap.KeyTable keyTable = CaseInsensitiveMap.KeyTable.of(List.of("id", "name"));
+		CaseInsensitiveMap<Integer> m1 = new CaseInsensitiveMap<>(keyTable);
+		CaseInsensitiveMap<Integer> m2 = new CaseInsensitiveMap<>(keyTable);
+		m1.put("ID", 1);
+		m1.put("extra", 2);
+		m2.put("id", 3);
+		m2.put("name", 4);
+
+		assertEquals(List.of("extra=2", "ID=1"), entries(m1));
+		assertEquals(List.of("id=3", "name=4"), entries(m2));
+		assertFalse(m2.containsKey("extra"));
+		assertEquals(2, keyTable.size());
+	}
+
+	@Test
+	public void testIteratorFailsFastOnInsert() {
+		CaseInsensitiveMap<Integer> m = new CaseInsensitiveMap<>();
+		m.put("a", 1);
+		m.put("b", 2);
+		Iterator<Map.Entry<String, Integer>> i = m.entrySet().iterator();
+		i.next();
+		m.put("c", 3);
+		assertThrows(ConcurrentModificationException.class, i::next);
+	}
+
+	@Test
+	public void testIteratorRemoveAndSetValue() {
+		CaseInsensitiveMap<Integer> m = new CaseInsensitiveMap<>();
+		for (int i = 0; i < 10; i++) {
+			m.put("k" + i, i);
+		}
+		for (Iterator<Map.Entry<String, Integer>> i = m.entrySet().iterator(); i.hasNext();) {
+			Map.Entry<String, Integer> e = i.next();
+			if (e.getValue() % 2 == 0) {
+				i.remove();
+			} else {
+				e.setValue(e.getValue() * 10);
+			}
+		}
+		assertEquals(List.of("k1=10", "k3=30", "k5=50", "k7=70", "k9=90"), entries(m));
+	}
+
+	@Test
+	public void testMatchesTreeMap() {
+		Random random = new Random(34);
+		for (int round = 0; round < 50; round++) {
+			Map<String, Integer> expected = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+			CaseInsensitiveMap<Integer> actual = (round % 2 == 0) ? new CaseInsensitiveMap<>()
+					: new CaseInsensitiveMap<>(CaseInsensitiveMap.KeyTable.of(List.of("id", "name", "value")));
+			for (int op = 0; op < 500; op++) {
+				String key = (random.nextInt(4) == 0) ? "k" + random.nextInt(200) : KEYS[random.nextInt(KEYS.length)];
+				int n = random.nextInt(100);
+				if (n < 55) {
+					assertEquals(expected.put(key, op), actual.put(key, op));
+				} else if (n < 85) {
+					assertEquals(expected.remove(key), actual.remove(key));
+				} else if (n < 95) {
+					assertEquals(expected.get(key), actual.get(key));
+					assertEquals(expected.containsKey(key), actual.containsKey(key));
+				} else if (n < 99) {
+					assertEquals(entries(expected), entries(actual));
+				} else {
+					expected.clear();
+					actual.clear();
+				}
+				assertEquals(expected.size(), actual.size());
+			}
+			assertEquals(entries(expected), entries(actual));
+			assertEquals(expected, actual);
+			assertEquals(expected.hashCode(), actual.hashCode());
+		}
+	}
+
+	@Test
+	public void testCopyConstructorAndPutAll() {
+		Map<String, Integer> source = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		CaseInsensitiveMap<Integer> m = new CaseInsensitiveMap<>();
+		for (int i = 20000; i > 0; i--) {
+			source.put("Key" + i, i);
+		}
+		m.putAll(source);
+		assertEquals(entries(source), entries(m));
+		assertEquals(entries(source), entries(new CaseInsensitiveMap<>(source)));
+	}
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrentSnapshotMapTest {
+
+	@Test
+	public void testNullValues() {
+		ConcurrentSnapshotMap<String, Object> map = new ConcurrentSnapshotMap<>();
+		map.put("a", null);
+		assertTrue(map.containsKey("a"));
+		assertTrue(map.containsValue(null));
+		assertNull(map.get("a"));
+	}
+
+	@Test
+	public void testIteratorWritesGoToCurrentMap() {
+		ConcurrentSnapshotMap<String, Object> map = new ConcurrentSnapshotMap<>();
+		map.replaceWith(Map.of("a", 1, "b", 2));
+
+		Iterator<Map.Entry<String, Object>> i = map.entrySet().iterator();
+		Map.Entry<String, Object> e = i.next();
+		map.replaceWith(Map.of("a", 10, "b", 20));
+		e.setValue(100);
+		assertEquals(100, map.get(e.getKey()));
+
+		Map.Entry<String, Object> removed = i.next();
+		i.remove();
+		assertFalse(map.containsKey(removed.getKey()));
+		assertEquals(1, map.size());
+	}
+
+}
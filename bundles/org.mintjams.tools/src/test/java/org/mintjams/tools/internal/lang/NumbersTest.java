@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.internal.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class NumbersTest {
+
+	private static final int ITERATIONS = 200000;
+
+	private static Object invoke(Function<String, Object> function, String value) {
+		try {
+			return function.apply(value);
+		} catch (RuntimeException ex) {
+			return ex.getClass();
+		}
+	}
+
+	private static void assertParity(Function<String, Object> expected, Function<String, Object> actual, String value) {
+		assertEquals(invoke(expected, value), invoke(actual, value), value);
+	}
+
+	private static String randomNumber(Random random) {
+		StringBuilder buffer = new StringBuilder();
+		switch (random.nextInt(6)) {
+		case 0:
+			buffer.append('-');
+			break;
+		case 1:
+			buffer.append('+');
+			break;
+		default:
+			break;
+		}
+
+		int digits = random.nextInt(6) == 0 ? random.nextInt(30) : random.nextInt(20);
+		for (int i = 0; i < digits; i++) {
+			buffer.append((char) ('0' + random.nextInt(10)));
+		}
+		if (random.nextInt(3) == 0) {
+			buffer.append('.');
+			int fraction = random.nextInt(12);
+			for (int i = 0; i < fraction; i++) {
+				buffer.append((char) ('0' + random.nextInt(10)));
+			}
+		}
+		if (random.nextInt(10) == 0) {
+			buffer.append(random.nextBoolean() ? 'E' : 'e').append(random.nextInt(41) - 20);
+		}
+		if (random.nextInt(20) == 0) {
+			buffer.insert(random.nextInt(buffer.length() + 1), " x-.+٣".charAt(random.nextInt(6)));
+		}
+		return buffer.toString();
+	}
+
+	@Test
+	public void testParseLongParity() {
+		Random random = new Random(32);
+		for (int i = 0; i < ITERATIONS; i++) {
+			String value = randomNumber(random);
+			assertParity(s -> new BigDecimal(s).longValue(), s -> Numbers.parseLong(s), value);
+			assertParity(s -> new BigDecimal(s).intValue(), s -> Numbers.parseInt(s), value);
+			assertParity(s -> new BigDecimal(s).shortValue(), s -> Numbers.parseShort(s), value);
+			assertParity(s -> new BigDecimal(s).byteValue(), s -> Numbers.parseByte(s), value);
+		}
+	}
+
+	@Test
+	public void testParseLongMatchesLongParseLong() {
+		Random random = new Random(320);
+		for (int i = 0; i < ITERATIONS; i++) {
+			long expected = random.nextInt(4) == 0 ? random.nextInt() : random.nextLong();
+			String value = Long.toString(expected);
+			assertEquals(Long.parseLong(value), Numbers.parseLong(value), value);
+		}
+		assertEquals(Long.MAX_VALUE, Numbers.parseLong(Long.toString(Long.MAX_VALUE)));
+		assertEquals(Long.MIN_VALUE, Numbers.parseLong(Long.toString(Long.MIN_VALUE)));
+	}
+
+	@Test
+	public void testParseDoubleParity() {
+		Random random = new Random(3200);
+		for (int i = 0; i < ITERATIONS; i++) {
+			String value = randomNumber(random);
+			assertParity(s -> new BigDecimal(s).doubleValue(), s -> Numbers.parseDouble(s), value);
+			assertParity(s -> new BigDecimal(s).floatValue(), s -> Numbers.parseFloat(s), value);
+		}
+	}
+
+	@Test
+	public void testParseDoubleMatchesDoubleParseDouble() {
+		Random random = new Random(32000);
+		for (int i = 0; i < ITERATIONS; i++) {
+			double expected = Double.longBitsToDouble(random.nextLong());
+			if (Double.isNaN(expected) || Double.isInfinite(expected)) {
+				continue;
+			}
+			String value = Numbers.toString(expected);
+			assertEquals(Double.parseDouble(value), Numbers.parseDouble(value), value);
+			assertEquals(Math.abs(expected), Math.abs(Numbers.parseDouble(value)), value);
+		}
+	}
+
+	@Test
+	public void testToStringParity() {
+		Random random = new Random(320000);
+		for (int i = 0; i < ITERATIONS; i++) {
+			double value = random.nextBoolean() ? Double.longBitsToDouble(random.nextLong()) : (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(40) - 20);
+			assertEquals(invoke(v -> new BigDecimal(v).toPlainString(), "" + value), invoke(v -> Numbers.toString(Double.parseDouble(v)), "" + value), "" + value);
+
+			float floatValue = random.nextBoolean() ? Float.intBitsToFloat(random.nextInt()) : (float) value;
+			assertEquals(invoke(v -> new BigDecimal(v).toPlainString(), "" + floatValue), invoke(v -> Numbers.toString(Float.parseFloat(v)), "" + floatValue), "" + floatValue);
+		}
+		assertEquals("0.0", Numbers.toString(-0.0d));
+		assertEquals("0.0", Numbers.toString(-0.0f));
+	}
+
+}
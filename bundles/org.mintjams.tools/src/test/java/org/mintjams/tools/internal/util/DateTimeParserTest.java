@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.internal.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+public class DateTimeParserTest {
+
+	private static final Supplier<ZoneId> ZONE_ID = () -> ZoneId.of("Asia/Tokyo");
+
+	private static java.util.Date parseWithFormatters(String value) {
+		try {
+			return Dates.asDate(OffsetDateTime.parse(value));
+		} catch (Throwable ignore) {}
+		try {
+			return Dates.asDate(ZonedDateTime.parse(value));
+		} catch (Throwable ignore) {}
+		try {
+			return Dates.asDate(LocalDateTime.parse(value), ZONE_ID.get());
+		} catch (Throwable ignore) {}
+		try {
+			return Dates.asDate(LocalDate.parse(value));
+		} catch (Throwable ignore) {}
+		try {
+			return Dates.asDate(OffsetTime.parse(value));
+		} catch (Throwable ignore) {}
+		try {
+			return Dates.asDate(LocalTime.parse(value), ZONE_ID.get());
+		} catch (Throwable ignore) {}
+		try {
+			return Dates.asDate(java.sql.Timestamp.valueOf(value));
+		} catch (Throwable ignore) {}
+		try {
+			return Dates.asDate(java.sql.Date.valueOf(value));
+		} catch (Throwable ignore) {}
+		try {
+			return Dates.asDate(java.sql.Time.valueOf(value));
+		} catch (Throwable ignore) {}
+		return null;
+	}
+
+	private static void assertParity(String value) {
+		java.util.Date expected = null;
+		char c = value.isEmpty() ? 'x' : value.charAt(0);
+		if (Character.isDigit(c) || c == '+' || c == '-' || c <= ' ') {
+			expected = parseWithFormatters(value);
+		}
+		assertEquals(expected, DateTimeParser.parse(value, ZONE_ID), value);
+	}
+
+	@Test
+	public void testKnownShapes() {
+		String[] values = {
+				"2024-01-31", "2024-02-30", "2024-1-5", "2024-01-31T10:15", "2024-01-31T10:15:30",
+				"2024-01-31T10:15:30.123456789", "2024-01-31t10:15:30Z", "2024-01-31T10:15:30+09:00",
+				"2024-01-31T10:15:30-05:30", "2024-01-31T10:15:30+09:00:00", "2024-01-31T10:15:30+09:00[Asia/Tokyo]",
+				"2024-01-31T10:15:30Z[UTC]", "+10000-01-01T00:00Z", "2024-01-31 10:15:30", "2024-01-31 10:15:30.5",
+				"2024-1-5 1:02:03", " 2024-01-31 10:15:30", "2024-01-31 10:15", "10:15", "10:15:30", "10:15:30.5",
+				"10:15+09:00", "10:15:30Z", "1:2:3", "24:00", "2024/01/31", "12345", "-1", "+1", "2024-01-31T",
+				"2024-01-31T25:00", "2024-13-01", " ", "\t10:15", "-10:00", "abc", "", "2024-01-31X10:15"
+		};
+		for (String value : values) {
+			assertParity(value);
+		}
+	}
+
+	@Test
+	public void testRandomizedParity() {
+		Random random = new Random(29);
+		String alphabet = "0123456789-:T .+Z/";
+		List<String> values = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			StringBuilder buffer = new StringBuilder();
+			int length = 1 + random.nextInt(24);
+			for (int j = 0; j < length; j++) {
+				buffer.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			values.add(buffer.toString());
+		}
+		for (int i = 0; i < 5000; i++) {
+			StringBuilder buffer = new StringBuilder();
+			buffer.append(String.format("%04d-%02d-%02d", 1 + random.nextInt(9999), random.nextInt(14), random.nextInt(33)));
+			switch (random.nextInt(4)) {
+			case 0:
+				break;
+			case 1:
+				buffer.append('T').append(String.format("%02d:%02d", random.nextInt(26), random.nextInt(61)));
+				break;
+			case 2:
+				buffer.append(' ').append(String.format("%02d:%02d:%02d", random.nextInt(26), random.nextInt(61), random.nextInt(61)));
+				break;
+			default:
+				buffer.append('T').append(String.format("%02d:%02d:%02d.%d%s", random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000), random.nextBoolean() ? "Z" : "+09:00"));
+				break;
+			}
+			values.add(buffer.toString());
+		}
+		for (String value : values) {
+			assertParity(value);
+		}
+	}
+
+	@Test
+	public void testRejectsUnsupportedShapes() {
+		assertNull(DateTimeParser.parse("2024/01/31", ZONE_ID));
+		assertNull(DateTimeParser.parse("12345", ZONE_ID));
+		assertNull(DateTimeParser.parse("Jan 31, 2024", ZONE_ID));
+	}
+
+}
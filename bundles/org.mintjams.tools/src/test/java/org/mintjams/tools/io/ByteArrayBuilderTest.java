@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ByteArrayBuilderTest {
+
+	@Test
+	public void testToByteArrayReturnsCopyForExactSizeHint() {
+		ByteArrayBuilder out = new ByteArrayBuilder(64);
+		byte[] content = new byte[64];
+		new Random(1).nextBytes(content);
+		out.write(content, 0, content.length);
+
+		byte[] first = out.toByteArray();
+		first[0]++;
+		byte[] second = out.toByteArray();
+
+		assertNotSame(first, second);
+		assertArrayEquals(content, second);
+	}
+
+	@Test
+	public void testToByteArrayAcrossChunks() {
+		ByteArrayBuilder out = new ByteArrayBuilder(0);
+		byte[] content = new byte[10000];
+		new Random(2).nextBytes(content);
+		for (int i = 0; i < content.length;) {
+			int length = Math.min(content.length - i, 1 + i % 97);
+			out.write(content, i, length);
+			i += length;
+		}
+		out.write(42);
+
+		byte[] bytes = out.toByteArray();
+		assertEquals(content.length + 1, out.size());
+		assertEquals(42, bytes[content.length]);
+		for (int i = 0; i < content.length; i++) {
+			assertEquals(content[i], bytes[i]);
+		}
+	}
+
+	@Test
+	public void testToString() {
+		ByteArrayBuilder out = new ByteArrayBuilder(4);
+		byte[] content = "héllo".getBytes(StandardCharsets.UTF_8);
+		out.write(content, 0, content.length);
+		assertEquals("héllo", out.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testIOsToByteArrayIgnoresOversizedAvailable() throws Exception {
+		byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+		InputStream in = new FilterInputStream(new ByteArrayInputStream(content)) {
+			@Override
+			public int available() {
+				return Integer.MAX_VALUE;
+			}
+		};
+
+		assertArrayEquals(content, IOs.toByteArray(in));
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class CloserTest {
+
+	@AfterEach
+	public void tearDown() {
+		Closer.setLeakDetectionInterval(0);
+		Closer.setLeakListener(null);
+	}
+
+	@Test
+	public void testClosesInReverseOrder() throws Exception {
+		List<Integer> closed = new ArrayList<>();
+		Closer closer = Closer.create();
+		for (int i = 0; i < 10; i++) {
+			int n = i;
+			closer.add(() -> closed.add(n));
+		}
+		AutoCloseable removed = closer.register(() -> closed.add(-1));
+		closer.unregister(removed);
+		closer.close();
+
+		assertEquals(List.of(9, 8, 7, 6, 5, 4, 3, 2, 1, 0), closed);
+		assertTrue(closer.isEmpty());
+	}
+
+	@Test
+	public void testUnregisteredCloserIsNotALeak() throws Exception {
+		AtomicInteger leaks = new AtomicInteger();
+		Closer.setLeakListener(ex -> leaks.incrementAndGet());
+		Closer.setLeakDetectionInterval(1);
+
+		createUnregisteredCloser();
+		createLeakedCloser();
+		for (int i = 0; i < 100 && leaks.get() == 0; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		for (int i = 0; i < 10; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+
+		assertEquals(1, leaks.get());
+	}
+
+	private static void createUnregisteredCloser() {
+		Closer closer = Closer.create();
+		AutoCloseable resource = closer.register(() -> {});
+		closer.unregister(resource);
+	}
+
+	private static void createLeakedCloser() {
+		Closer.create().add(() -> {});
+	}
+
+}
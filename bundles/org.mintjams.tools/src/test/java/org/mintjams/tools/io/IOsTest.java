@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class IOsTest {
+
+	@TempDir
+	Path fDir;
+
+	@Test
+	public void testCopyRangeFromFileInputStream() throws Exception {
+		Path file = fDir.resolve("file.txt");
+		Files.write(file, "0123456789".getBytes(StandardCharsets.US_ASCII));
+
+		try (FileInputStream in = new FileInputStream(file.toFile())) {
+			in.read();
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			IOs.copy(in, out, 2, 3);
+			assertEquals("345", out.toString(StandardCharsets.US_ASCII));
+			assertEquals('6', in.read());
+		}
+	}
+
+	@Test
+	public void testCopyRangeFromPipe() throws Exception {
+		Path fifo = fDir.resolve("fifo");
+		boolean created;
+		try {
+			created = (new ProcessBuilder("mkfifo", fifo.toString()).start().waitFor() == 0);
+		} catch (Exception ex) {
+			created = false;
+		}
+		assumeTrue(created);
+
+		Thread writer = new Thread(() -> {
+			try (OutputStream out = Files.newOutputStream(fifo)) {
+				out.write("0123456789".getBytes(StandardCharsets.US_ASCII));
+			} catch (Exception ignore) {}
+		});
+		writer.start();
+		try (FileInputStream in = new FileInputStream(fifo.toFile())) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			IOs.copy(in, out, 2, 5);
+			assertArrayEquals("23456".getBytes(StandardCharsets.US_ASCII), out.toByteArray());
+			assertEquals('7', in.read());
+		} finally {
+			writer.join();
+		}
+	}
+
+}
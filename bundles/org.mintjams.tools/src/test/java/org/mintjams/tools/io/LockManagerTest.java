@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LockManagerTest {
+
+	@TempDir
+	Path fDir;
+
+	@Test
+	public void testUnrelatedPathsInSameStripe() {
+		LockManager manager = LockManager.newBuilder().setStripes(1).build();
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			try (LockManager.Handle shared = manager.acquire(fDir.resolve("a.lock"), LockManager.Mode.SHARED);
+					LockManager.Handle exclusive = manager.acquire(fDir.resolve("b.lock"), LockManager.Mode.EXCLUSIVE)) {
+				assertEquals(LockManager.Mode.SHARED, shared.getMode());
+				assertEquals(LockManager.Mode.EXCLUSIVE, exclusive.getMode());
+			}
+		});
+	}
+
+	@Test
+	public void testUpgradeIsRejected() throws Exception {
+		LockManager manager = LockManager.newBuilder().build();
+		Path path = fDir.resolve("a.lock");
+		try (LockManager.Handle shared = manager.acquire(path, LockManager.Mode.SHARED)) {
+			assertEquals(LockManager.Mode.SHARED, shared.getMode());
+			assertThrows(IllegalStateException.class, () -> manager.acquire(path, LockManager.Mode.EXCLUSIVE));
+		}
+		try (LockManager.Handle exclusive = manager.tryAcquire(path, LockManager.Mode.EXCLUSIVE)) {
+			assertNotNull(exclusive);
+		}
+	}
+
+	@Test
+	public void testExclusiveBlocksOtherThreads() throws Exception {
+		LockManager manager = LockManager.newBuilder().build();
+		Path path = fDir.resolve("a.lock");
+		try (LockManager.Handle exclusive = manager.acquire(path, LockManager.Mode.EXCLUSIVE)) {
+			assertEquals(path, exclusive.getPath());
+			LockManager.Handle handle = CompletableFuture.supplyAsync(() -> {
+				try {
+					return manager.tryAcquire(path, LockManager.Mode.SHARED, 50, TimeUnit.MILLISECONDS);
+				} catch (Exception ex) {
+					throw new IllegalStateException(ex);
+				}
+			}).get();
+			assertNull(handle);
+		}
+
+		boolean acquired = CompletableFuture.supplyAsync(() -> {
+			try (LockManager.Handle handle = manager.tryAcquire(path, LockManager.Mode.SHARED, 1, TimeUnit.SECONDS)) {
+				return (handle != null);
+			} catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+		}).get();
+		assertTrue(acquired);
+	}
+
+	@Test
+	public void testReleaseDuringBackoffOfAnotherPath() throws Exception {
+		LockManager manager = LockManager.newBuilder().setStripes(1).build();
+		Path contended = fDir.resolve("a.lock");
+		Path other = fDir.resolve("b.lock");
+		try (LockFile lockFile = LockFile.create(contended)) {
+			assertFalse(lockFile.isShared());
+			CompletableFuture<LockManager.Handle> waiter = CompletableFuture.supplyAsync(() -> {
+				try {
+					return manager.tryAcquire(contended, LockManager.Mode.EXCLUSIVE, 2, TimeUnit.SECONDS);
+				} catch (Exception ex) {
+					throw new IllegalStateException(ex);
+				}
+			});
+			assertTimeoutPreemptively(Duration.ofMillis(500), () -> {
+				manager.acquire(other, LockManager.Mode.EXCLUSIVE).close();
+			});
+			assertNull(waiter.get());
+		}
+	}
+
+	@Test
+	public void testCloseFromAnotherThreadReleasesPath() throws Exception {
+		LockManager manager = LockManager.newBuilder().build();
+		Path path = fDir.resolve("a.lock");
+		LockManager.Handle handle = CompletableFuture.supplyAsync(() -> {
+			try {
+				return manager.acquire(path, LockManager.Mode.EXCLUSIVE);
+			} catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+		}).get();
+		assertThrows(IllegalMonitorStateException.class, () -> handle.close());
+
+		try (LockManager.Handle other = manager.tryAcquire(path, LockManager.Mode.EXCLUSIVE, 50, TimeUnit.MILLISECONDS)) {
+			assertNotNull(other);
+		}
+	}
+
+}
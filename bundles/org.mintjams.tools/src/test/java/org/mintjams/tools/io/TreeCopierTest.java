@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TreeCopierTest {
+
+	@TempDir
+	Path fDir;
+
+	private Path createTree() throws Exception {
+		Path source = Files.createDirectories(fDir.resolve("source"));
+		Files.createDirectories(source.resolve("a/b"));
+		Files.write(source.resolve("file.txt"), "root".getBytes());
+		Files.write(source.resolve("a/b/nested.txt"), "nested".getBytes());
+		return source;
+	}
+
+	@Test
+	public void testCopyTree() throws Exception {
+		Path source = createTree();
+		Path target = fDir.resolve("target");
+
+		CopyResult result = IOs.copyTree(source, target);
+
+		assertTrue(result.isSuccessful());
+		assertEquals(2, result.getFileCount());
+		assertArrayEquals("nested".getBytes(), Files.readAllBytes(target.resolve("a/b/nested.txt")));
+	}
+
+	@Test
+	public void testRejectsTargetInsideSource() throws Exception {
+		Path source = createTree();
+
+		assertThrows(IllegalArgumentException.class, () -> IOs.copyTree(source, source.resolve("a/copy")));
+		assertThrows(IllegalArgumentException.class, () -> IOs.copyTree(source, source.resolve("x/../a/./copy")));
+		assertThrows(IllegalArgumentException.class, () -> IOs.copyTree(source, source));
+		assertThrows(IllegalArgumentException.class, () -> IOs.copyTree(source.resolve("file.txt"), source.resolve("file.txt")));
+		assertFalse(Files.exists(source.resolve("a/copy")));
+	}
+
+	@Test
+	public void testAllowsSiblingWithCommonPrefix() throws Exception {
+		Path source = createTree();
+		CopyResult result = IOs.copyTree(source, fDir.resolve("source-copy"));
+		assertTrue(result.isSuccessful());
+	}
+
+	@Test
+	public void testMoveReportsRenamedTree() throws Exception {
+		Path source = createTree();
+		Path target = fDir.resolve("moved");
+		Map<Path, Long> copied = new ConcurrentHashMap<>();
+
+		CopyResult result = IOs.copyTree(source, target, CopyOptions.newBuilder()
+				.setMove(true)
+				.setListener((from, to, size) -> copied.put(to, size))
+				.build());
+
+		assertTrue(result.isSuccessful());
+		assertFalse(Files.exists(source));
+		assertEquals(2, result.getFileCount());
+		assertEquals(3, result.getDirectoryCount());
+		assertEquals(10, result.getByteCount());
+		assertEquals(Map.of(target.resolve("file.txt"), 4L, target.resolve("a/b/nested.txt"), 6L), copied);
+	}
+
+	@Test
+	public void testCopyAttributes() throws Exception {
+		Path source = createTree();
+		assumeTrue(Files.getFileAttributeView(source, PosixFileAttributeView.class) != null);
+		Path file = source.resolve("a/b/nested.txt");
+		Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-r-----"));
+		Files.setPosixFilePermissions(source.resolve("a"), PosixFilePermissions.fromString("rwx--x---"));
+		FileTime time = FileTime.fromMillis(1000000000000L);
+		Files.setLastModifiedTime(file, time);
+		Path target = fDir.resolve("target");
+
+		CopyResult result = IOs.copyTree(source, target, CopyOptions.newBuilder().setCopyAttributes(true).build());
+
+		assertTrue(result.isSuccessful());
+		assertEquals("rw-r-----", PosixFilePermissions.toString(Files.getPosixFilePermissions(target.resolve("a/b/nested.txt"))));
+		assertEquals("rwx--x---", PosixFilePermissions.toString(Files.getPosixFilePermissions(target.resolve("a"))));
+		assertEquals(time, Files.getLastModifiedTime(target.resolve("a/b/nested.txt")));
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TreeDeleterTest {
+
+	@TempDir
+	Path fDir;
+
+	private Path createTree() throws IOException {
+		Path root = Files.createDirectories(fDir.resolve("root"));
+		for (int i = 0; i < 5; i++) {
+			Path dir = Files.createDirectories(root.resolve("d" + i + "/sub"));
+			Files.write(dir.resolve("file.txt"), new byte[i]);
+			Files.write(dir.getParent().resolve("file.txt"), new byte[10]);
+		}
+		Files.createSymbolicLink(root.resolve("link"), fDir);
+		return root;
+	}
+
+	@Test
+	public void testDeleteTree() throws Exception {
+		Path root = createTree();
+
+		DeleteResult result = IOs.delete(root);
+
+		assertTrue(result.isSuccessful());
+		assertFalse(Files.exists(root));
+		assertEquals(11, result.getFileCount());
+		assertEquals(11, result.getDirectoryCount());
+		assertTrue(Files.exists(fDir));
+	}
+
+	@Test
+	public void testDeleteTreeWithPool() throws Exception {
+		Path root = createTree();
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			assertTrue(IOs.delete(root, pool).isSuccessful());
+		} finally {
+			pool.shutdown();
+		}
+		assertFalse(Files.exists(root));
+	}
+
+	@Test
+	public void testDeleteFileAndMissingPath() throws Exception {
+		Path file = Files.write(fDir.resolve("file.txt"), new byte[7]);
+
+		DeleteResult result = IOs.delete(file);
+		assertTrue(result.isSuccessful());
+		assertEquals(1, result.getFileCount());
+		assertEquals(7, result.getByteCount());
+
+		result = IOs.delete(file);
+		assertTrue(result.isSuccessful());
+		assertEquals(0, result.getFileCount());
+		IOs.deleteIfExists(file);
+	}
+
+	@Test
+	public void testDeleteIfExistsThrowsOnFailure() throws Exception {
+		Path file = Files.write(fDir.resolve("file.txt"), new byte[1]);
+		Path path = file.resolve("child");
+
+		assertFalse(IOs.delete(path).isSuccessful());
+		IOException ex = assertThrows(IOException.class, () -> IOs.deleteIfExists(path));
+		assertEquals(1, ex.getSuppressed().length);
+	}
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.lang;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.mintjams.tools.io.IOs;
+
+public class StringsTest {
+
+	@Test
+	public void testReadAllIgnoresOversizedAvailable() throws Exception {
+		InputStream in = new FilterInputStream(new ByteArrayInputStream("héllo".getBytes(StandardCharsets.UTF_8))) {
+			@Override
+			public int available() {
+				return Integer.MAX_VALUE;
+			}
+		};
+
+		assertEquals("héllo", Strings.readAll(in, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testReadAllUsesIOsBufferPool() throws Exception {
+		int bufferSize = IOs.getBufferPool().getBufferSize();
+		IOs.setBufferSize(1234);
+		try {
+			AtomicInteger length = new AtomicInteger();
+			Reader reader = new StringReader("content") {
+				@Override
+				public int read(char[] cbuf, int off, int len) throws java.io.IOException {
+					length.set(cbuf.length);
+					return super.read(cbuf, off, len);
+				}
+			};
+
+			assertEquals("content", Strings.readAll(reader));
+			assertEquals(1234, length.get());
+		} finally {
+			IOs.setBufferSize(bufferSize);
+		}
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.mail;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class MessageTest {
+
+	@Test
+	public void testAttachmentsAroundMemoryThreshold() throws Exception {
+		byte[] small = new byte[100];
+		byte[] large = new byte[5000];
+		new Random(1).nextBytes(small);
+		new Random(2).nextBytes(large);
+
+		try (Message message = Message.create().setAttachmentMemoryThreshold(1000)) {
+			assertEquals(1000, message.getAttachmentMemoryThreshold());
+			message.setContent("Hello", "text/plain");
+			message.addAttachment(new ByteArrayInputStream(small), "small.bin", "application/octet-stream");
+			message.addAttachment(new ByteArrayInputStream(large), "large.bin", "application/octet-stream");
+			message.addAttachment("abc".getBytes(), "text.txt", "text/plain");
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			message.writeTo(out);
+			try (Message parsed = Message.from(new ByteArrayInputStream(out.toByteArray()))) {
+				assertEquals("Hello", parsed.getContent("text/plain"));
+				assertTrue(parsed.hasAttachments());
+				Message.Attachment[] attachments = parsed.getAttachments();
+				assertEquals(3, attachments.length);
+				for (Message.Attachment attachment : attachments) {
+					byte[] bytes = attachment.getInputStream().readAllBytes();
+					if (attachment.getFilename().equals("small.bin")) {
+						assertArrayEquals(small, bytes);
+					} else if (attachment.getFilename().equals("large.bin")) {
+						assertArrayEquals(large, bytes);
+					} else {
+						assertArrayEquals("abc".getBytes(), bytes);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testByteArrayAttachmentIsCopied() throws Exception {
+		byte[] content = "abc".getBytes();
+
+		try (Message message = Message.create()) {
+			message.setContent("Hello", "text/plain");
+			message.addAttachment(content, "text.txt", "text/plain");
+			content[0] = 'x';
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			message.writeTo(out);
+			try (Message parsed = Message.from(new ByteArrayInputStream(out.toByteArray()))) {
+				Message.Attachment[] attachments = parsed.getAttachments();
+				assertEquals(1, attachments.length);
+				assertEquals("text.txt", attachments[0].getFilename());
+				assertArrayEquals("abc".getBytes(), attachments[0].getInputStream().readAllBytes());
+			}
+		}
+	}
+
+	@Test
+	public void testInvalidMemoryThreshold() throws Exception {
+		try (Message message = Message.create()) {
+			assertThrows(IllegalArgumentException.class, () -> message.setAttachmentMemoryThreshold(-1));
+		}
+	}
+
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.mail;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.mail.search.SubjectTerm;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.icegreen.greenmail.user.GreenMailUser;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+public class QueryTest {
+
+	private static final String USER = "user@localhost";
+	private static final String PASSWORD = "secret";
+
+	private GreenMail fGreenMail;
+	private GreenMailUser fUser;
+
+	@BeforeEach
+	public void setUp() {
+		fGreenMail = new GreenMail(ServerSetupTest.IMAP.dynamicPort());
+		fGreenMail.start();
+		fUser = fGreenMail.setUser(USER, USER, PASSWORD);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		fGreenMail.stop();
+	}
+
+	private void deliver(String... subjects) {
+		for (String subject : subjects) {
+			fUser.deliver(GreenMailUtil.createTextEmail(USER, "sender@localhost", subject, "Body of " + subject, fGreenMail.getImap().getServerSetup()));
+		}
+	}
+
+	private Query.Builder newQuery() {
+		return newQuery(fGreenMail.getImap().getPort());
+	}
+
+	private Query.Builder newQuery(int port) {
+		return Query.Builder.create("imap://localhost:" + port + "/INBOX")
+				.setUsername(USER)
+				.setPassword(PASSWORD);
+	}
+
+	private static List<String> subjects(Query.Result result) throws Exception {
+		List<String> subjects = new ArrayList<>();
+		for (Message message : result) {
+			subjects.add(message.getSubject());
+		}
+		return subjects;
+	}
+
+	@Test
+	public void testWindowedPrefetch() throws Exception {
+		deliver("m1", "m2", "m3", "m4", "m5");
+		try (Query.Result result = newQuery().setFetchWindow(2).build().execute()) {
+			assertEquals(List.of("m1", "m2", "m3", "m4", "m5"), subjects(result));
+			assertEquals(3, result.getFetchCount());
+			assertEquals(5, result.getFetchedMessageCount());
+		}
+	}
+
+	@Test
+	public void testHeadersComeFromPrefetchedWindow() throws Exception {
+		deliver("m1", "m2", "m3", "m4", "m5");
+		try (CommandRecorder recorder = new CommandRecorder(fGreenMail.getImap().getPort())) {
+			try (Query.Result result = newQuery(recorder.getPort()).setFetchWindow(2).build().execute()) {
+				List<String> subjects = new ArrayList<>();
+				for (Message message : result) {
+					subjects.add(message.getSubject());
+					assertEquals("sender@localhost", message.getFrom()[0].toString());
+					assertEquals(USER, message.getTo()[0].toString());
+					message.getSentDate();
+					message.getHeader("Message-ID");
+				}
+
+				assertEquals(List.of("m1", "m2", "m3", "m4", "m5"), subjects);
+				assertEquals(3, result.getFetchCount());
+				assertEquals(result.getFetchCount(), recorder.count("FETCH"));
+			}
+		}
+	}
+
+	@Test
+	public void testIncrementalSync() throws Exception {
+		deliver("m1", "m2", "m3");
+
+		SyncCheckpoint checkpoint;
+		try (Query.Result result = newQuery().setCheckpoint(SyncCheckpoint.NONE).build().execute()) {
+			assertEquals(List.of("m1", "m2", "m3"), subjects(result));
+			assertFalse(result.isReset());
+			checkpoint = result.getCheckpoint();
+		}
+		assertEquals(3, checkpoint.getLastUID());
+
+		try (Query.Result result = newQuery().setCheckpoint(SyncCheckpoint.parse(checkpoint.toString())).build().execute()) {
+			assertEquals(List.of(), subjects(result));
+			assertEquals(checkpoint, result.getCheckpoint());
+		}
+
+		deliver("m4", "m5");
+		try (Query.Result result = newQuery().setCheckpoint(checkpoint).build().execute()) {
+			List<Message> messages = new ArrayList<>();
+			result.forEach(messages::add);
+			assertEquals(2, messages.size());
+			assertEquals("m4", messages.get(0).getSubject());
+			assertEquals(4, messages.get(0).getUID());
+			assertEquals(5, result.getCheckpoint().getLastUID());
+		}
+	}
+
+	@Test
+	public void testUIDValidityReset() throws Exception {
+		deliver("m1", "m2");
+
+		SyncCheckpoint checkpoint;
+		try (Query.Result result = newQuery().setCheckpoint(SyncCheckpoint.NONE).build().execute()) {
+			subjects(result);
+			checkpoint = result.getCheckpoint();
+		}
+
+		SyncCheckpoint stale = SyncCheckpoint.of(checkpoint.getUIDValidity() + 1, checkpoint.getLastUID());
+		try (Query.Result result = newQuery().setCheckpoint(stale).build().execute()) {
+			assertEquals(List.of("m1", "m2"), subjects(result));
+			assertTrue(result.isReset());
+			assertEquals(checkpoint, result.getCheckpoint());
+		}
+	}
+
+	@Test
+	public void testCheckpointAdvancesPastUnmatchedMessages() throws Exception {
+		deliver("match 1", "other 2", "other 3");
+
+		SyncCheckpoint checkpoint;
+		try (Query.Result result = newQuery().setCheckpoint(SyncCheckpoint.NONE).setSearchTerm(new SubjectTerm("match")).build().execute()) {
+			assertEquals(List.of("match 1"), subjects(result));
+			checkpoint = result.getCheckpoint();
+		}
+		assertEquals(3, checkpoint.getLastUID());
+
+		try (Query.Result result = newQuery().setCheckpoint(checkpoint).setSearchTerm(new SubjectTerm("match")).build().execute()) {
+			assertEquals(List.of(), subjects(result));
+			assertEquals(0, result.getFetchCount());
+		}
+	}
+
+	@Test
+	public void testCondStoreFallsBackWithoutServerSupport() throws Exception {
+		deliver("m1");
+		try (Query.Result result = newQuery().setCheckpoint(SyncCheckpoint.NONE).setCondStore(true).build().execute()) {
+			assertEquals(List.of("m1"), subjects(result));
+			assertEquals(0, result.getChangedMessages().length);
+			assertFalse(result.getCheckpoint().hasHighestModSeq());
+		}
+	}
+
+	private static class CommandRecorder implements Closeable {
+		private final int fTargetPort;
+		private final ServerSocket fServerSocket;
+		private final List<String> fCommands = Collections.synchronizedList(new ArrayList<>());
+
+		private CommandRecorder(int targetPort) throws IOException {
+			fTargetPort = targetPort;
+			fServerSocket = new ServerSocket(0);
+			start(() -> {
+				for (;;) {
+					Socket client = fServerSocket.accept();
+					Socket server = new Socket("localhost", fTargetPort);
+					start(() -> pipe(server.getInputStream(), client.getOutputStream(), false));
+					start(() -> pipe(client.getInputStream(), server.getOutputStream(), true));
+				}
+			});
+		}
+
+		private int getPort() {
+			return fServerSocket.getLocalPort();
+		}
+
+		private long count(String command) {
+			synchronized (fCommands) {
+				return fCommands.stream().filter(e -> {
+					String[] words = e.toUpperCase(Locale.ROOT).split(" ");
+					return (words.length > 1 && (words[1].equals(command) || (words[1].equals("UID") && words.length > 2 && words[2].equals(command))));
+				}).count();
+			}
+		}
+
+		private void pipe(InputStream in, OutputStream out, boolean record) throws IOException {
+			try (in; out) {
+				StringBuilder line = new StringBuilder();
+				for (int b; (b = in.read()) != -1;) {
+					out.write(b);
+					if (!record) {
+						if (in.available() == 0) {
+							out.flush();
+						}
+						continue;
+					}
+					if (b == '\n') {
+						out.flush();
+						fCommands.add(line.toString().trim());
+						line.setLength(0);
+					} else {
+						line.append(new String(new byte[] { (byte) b }, StandardCharsets.ISO_8859_1));
+					}
+				}
+			}
+		}
+
+		private void start(IORunnable runnable) {
+			Thread thread = new Thread(() -> {
+				try {
+					runnable.run();
+				} catch (IOException ignore) {}
+			});
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		@Override
+		public void close() throws IOException {
+			fServerSocket.close();
+		}
+	}
+
+	private interface IORunnable {
+		void run() throws IOException;
+	}
+
+}
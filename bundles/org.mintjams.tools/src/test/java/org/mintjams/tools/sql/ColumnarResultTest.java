@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class ColumnarResultTest {
+
+	@Test
+	public void testWidenAfterManyNonNullRows() {
+		ColumnarResult.Builder builder = ColumnarResult.newBuilder();
+		for (int i = 0; i < 100; i++) {
+			builder.add(Map.of("value", i));
+		}
+		builder.add(Map.of("value", 5000000000L));
+		builder.add(Map.of("value", "text"));
+		ColumnarResult result = builder.build();
+
+		assertEquals(102, result.size());
+		assertEquals(0L, ((Number) result.getValue(0, "value")).longValue());
+		assertEquals(99L, ((Number) result.getValue(99, "value")).longValue());
+		assertEquals(5000000000L, result.getValue(100, "value"));
+		assertEquals("text", result.getValue(101, "value"));
+		assertFalse(result.isNull(64, "value"));
+	}
+
+	@Test
+	public void testNullsAcrossWordBoundaries() {
+		ColumnarResult.Builder builder = ColumnarResult.newBuilder();
+		for (int i = 0; i < 200; i++) {
+			Map<String, Object> row = new HashMap<>();
+			row.put("value", (i % 65 == 0) ? null : Long.valueOf(i));
+			builder.add(row);
+		}
+		ColumnarResult result = builder.build();
+
+		for (int i = 0; i < 200; i++) {
+			if (i % 65 == 0) {
+				assertTrue(result.isNull(i, "value"));
+				assertNull(result.getValue(i, "value"));
+			} else {
+				assertEquals(Long.valueOf(i), result.getValue(i, "value"));
+			}
+		}
+	}
+
+}
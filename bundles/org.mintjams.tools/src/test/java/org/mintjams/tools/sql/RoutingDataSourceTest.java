@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2021 MintJams Inc.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.mintjams.tools.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mintjams.tools.collections.AdaptableMap;
+
+public class RoutingDataSourceTest {
+
+	private DataSource fPrimary;
+	private DataSource fReplica;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		fPrimary = newDataSource("primary");
+		fReplica = newDataSource("replica");
+	}
+
+	private static DataSource newDataSource(String name) throws SQLException {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE marker (id INT PRIMARY KEY, name VARCHAR(32))");
+			statement.execute("INSERT INTO marker VALUES (1, '" + name + "')");
+		}
+		return dataSource;
+	}
+
+	private static String whoAmI(Connection connection) throws SQLException {
+		try (connection; Statement statement = connection.createStatement();
+				ResultSet results = statement.executeQuery("SELECT name FROM marker WHERE id = 1")) {
+			results.next();
+			return results.getString(1);
+		}
+	}
+
+	private static String query(DataSource dataSource) throws SQLException {
+		try (Query.Result result = Query.newBuilder(dataSource).setStatement("SELECT name FROM marker WHERE id = 1").build().execute()) {
+			for (AdaptableMap<String, Object> row : result) {
+				return row.getString("name");
+			}
+		} catch (IOException ex) {
+			throw new SQLException(ex);
+		}
+		return null;
+	}
+
+	@Test
+	public void testRoutesReadsToReplicaAndWritesToPrimary() throws Exception {
+		RoutingDataSource dataSource = RoutingDataSource.newBuilder(fPrimary).addReplica(fReplica).build();
+
+		assertEquals("replica", whoAmI(dataSource.getReadOnlyConnection()));
+		assertEquals("primary", whoAmI(dataSource.getConnection()));
+		assertEquals("replica", query(dataSource));
+	}
+
+	@Test
+	public void testFailsOverToPrimaryWhenReplicaIsDown() throws Exception {
+		RoutingDataSource dataSource = RoutingDataSource.newBuilder(fPrimary)
+				.addReplica(new UnavailableDataSource())
+				.setRetryInterval(60000)
+				.build();
+
+		assertEquals("primary", whoAmI(dataSource.getReadOnlyConnection()));
+		RoutingDataSource.ReplicaStatus status = dataSource.getReplicaStatus().get(0);
+		assertFalse(status.isAvailable());
+		assertEquals(1, status.getFailureCount());
+
+		assertEquals("primary", whoAmI(dataSource.getReadOnlyConnection()));
+		assertEquals(1, status.getFailureCount());
+	}
+
+	@Test
+	public void testFailsOverToHealthyReplica() throws Exception {
+		RoutingDataSource dataSource = RoutingDataSource.newBuilder(fPrimary)
+				.addReplica(new UnavailableDataSource())
+				.addReplica(fReplica)
+				.build();
+
+		for (int i = 0; i < 4; i++) {
+			assertEquals("replica", whoAmI(dataSource.getReadOnlyConnection()));
+		}
+	}
+
+	@Test
+	public void testReadYourWrites() throws Exception {
+		RoutingDataSource dataSource = RoutingDataSource.newBuilder(fPrimary)
+				.addReplica(fReplica)
+				.setReadYourWritesWindow(60000)
+				.build();
+
+		assertEquals("replica", query(dataSource));
+		Entity.newBuilder(dataSource).setName("marker").build().create(Map.of("id", 2, "name", "written")).execute();
+		assertEquals("primary", query(dataSource));
+	}
+
+	@Test
+	public void testReadYourWritesWindowExpires() throws Exception {
+		RoutingDataSource dataSource = RoutingDataSource.newBuilder(fPrimary)
+				.addReplica(fReplica)
+				.setReadYourWritesWindow(50)
+				.build();
+
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			statement.executeUpdate("UPDATE marker SET name = 'primary' WHERE id = 1");
+		}
+		assertEquals("primary", whoAmI(dataSource.getReadOnlyConnection()));
+		Thread.sleep(100);
+		assertEquals("replica", whoAmI(dataSource.getReadOnlyConnection()));
+	}
+
+	@Test
+	public void testReadsOnPrimaryDoNotPinReadsToPrimary() throws Exception {
+		RoutingDataSource dataSource = RoutingDataSource.newBuilder(fPrimary)
+				.addReplica(fReplica)
+				.setReadYourWritesWindow(60000)
+				.build();
+
+		assertEquals("primary", whoAmI(dataSource.getConnection()));
+		assertEquals("replica", query(dataSource));
+	}
+
+	@Test
+	public void testCommitPinsReadsToPrimary() throws Exception {
+		RoutingDataSource dataSource = RoutingDataSource.newBuilder(fPrimary)
+				.addReplica(fReplica)
+				.setReadYourWritesWindow(60000)
+				.build();
+
+		try (Connection connection = dataSource.getConnection()) {
+			connection.setAutoCommit(false);
+			connection.commit();
+		}
+		assertEquals("primary", query(dataSource));
+	}
+
+	@Test
+	public void testEntityMetaDataDoesNotPinReadsToPrimary() throws Exception {
+		RoutingDataSource dataSource = RoutingDataSource.newBuilder(fPrimary)
+				.addReplica(fReplica)
+				.setReadYourWritesWindow(60000)
+				.build();
+
+		Entity entity = Entity.newBuilder(dataSource).setName("marker").build();
+		assertTrue(entity.getColumnNames().stream().anyMatch("name"::equalsIgnoreCase));
+		assertEquals("replica", query(dataSource));
+	}
+
+	private static class UnavailableDataSource implements DataSource {
+		@Override
+		public Connection getConnection() throws SQLException {
+			throw new SQLNonTransientConnectionException("Connection refused.", "08001");
+		}
+
+		@Override
+		public Connection getConnection(String username, String password) throws SQLException {
+			return getConnection();
+		}
+
+		@Override
+		public PrintWriter getLogWriter() throws SQLException {
+			return null;
+		}
+
+		@Override
+		public void setLogWriter(PrintWriter out) throws SQLException {}
+
+		@Override
+		public void setLoginTimeout(int seconds) throws SQLException {}
+
+		@Override
+		public int getLoginTimeout() throws SQLException {
+			return 0;
+		}
+
+		@Override
+		public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+			throw new SQLFeatureNotSupportedException();
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> iface) throws SQLException {
+			throw new SQLException("Not a wrapper.");
+		}
+
+		@Override
+		public boolean isWrapperFor(Class<?> iface) throws SQLException {
+			return false;
+		}
+	}
+
+}